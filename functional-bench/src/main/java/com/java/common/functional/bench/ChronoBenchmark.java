@@ -0,0 +1,55 @@
+package com.java.common.functional.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.java.common.structure.Chrono;
+
+/**
+ * Coût d'une mesure {@link Chrono} : chrono par identifiant contre timer nommé et son histogramme
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChronoBenchmark {
+
+    private final Chrono.Timer timer = Chrono.timer("bench");
+
+    @Benchmark
+    public long startStop() {
+        return Chrono.stop(Chrono.start());
+    }
+
+    @Benchmark
+    public long timerScope() {
+        try (Chrono.Scope scope = timer.start()) {
+            return scope.elapsed();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long timerScopeContended() {
+        try (Chrono.Scope scope = timer.start()) {
+            return scope.elapsed();
+        }
+    }
+
+    @Benchmark
+    public long snapshotP99() {
+        return timer.snapshot().getP99();
+    }
+}
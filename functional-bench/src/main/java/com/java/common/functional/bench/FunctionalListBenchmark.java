@@ -0,0 +1,104 @@
+package com.java.common.functional.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.java.common.structure.FunctionalList;
+import com.java.common.structure.PersistentVector;
+
+/**
+ * Construction, copie et parcours par curseur de {@link FunctionalList}, comparés à {@link PersistentVector}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionalListBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private List<Integer> source;
+    private FunctionalList<Integer> list;
+    private PersistentVector<Integer> vector;
+
+    @Setup
+    public void setup() {
+        source = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        list = FunctionalList.convert(source);
+        vector = PersistentVector.from(source);
+    }
+
+    @Benchmark
+    public FunctionalList<Integer> addChain() {
+        FunctionalList<Integer> result = new FunctionalList<>();
+        for (int i = 0; i < size; i++) {
+            result.addChain(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public FunctionalList<Integer> convert() {
+        return FunctionalList.convert(source);
+    }
+
+    @Benchmark
+    public FunctionalList<Integer> addAllChain() {
+        return new FunctionalList<Integer>().addAllChain(list).addAllChain(list);
+    }
+
+    @Benchmark
+    public void cursor(Blackhole bh) {
+        FunctionalList<Integer> copy = FunctionalList.convert(list);
+        while (copy.hasNext()) {
+            bh.consume(copy.next());
+        }
+    }
+
+    @Benchmark
+    public void toOption(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(list.toOption(i));
+        }
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vectorPlus() {
+        PersistentVector<Integer> result = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            result = result.plus(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vectorConcat() {
+        return vector.concat(vector);
+    }
+
+    @Benchmark
+    public void vectorCursor(Blackhole bh) {
+        PersistentVector<Integer> snapshot = vector.snapshot();
+        while (snapshot.hasNext()) {
+            bh.consume(snapshot.next());
+        }
+    }
+}
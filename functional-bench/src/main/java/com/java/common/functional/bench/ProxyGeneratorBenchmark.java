@@ -0,0 +1,73 @@
+package com.java.common.functional.bench;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.java.common.structure.ProxyGenerator;
+
+/**
+ * Création et appel des getter d'un proxy {@link ProxyGenerator}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyGeneratorBenchmark {
+
+    public interface Person {
+        String getName();
+        Integer getAge();
+        Long getId();
+        Double getScore();
+        Date getBirthDate();
+    }
+
+    private Map<String, Object> properties;
+    private Person proxy;
+
+    @Setup
+    public void setup() {
+        properties = new HashMap<>();
+        properties.put("name", "John");
+        properties.put("age", "42");
+        properties.put("id", 123456789L);
+        properties.put("score", 12.5d);
+        properties.put("birthDate", "1980-01-01");
+        proxy = ProxyGenerator.createProxy(properties, Person.class);
+    }
+
+    @Benchmark
+    public Person createProxy() {
+        return ProxyGenerator.createProxy(properties, Person.class);
+    }
+
+    @Benchmark
+    public void getters(Blackhole bh) {
+        bh.consume(proxy.getName());
+        bh.consume(proxy.getAge());
+        bh.consume(proxy.getId());
+        bh.consume(proxy.getScore());
+        bh.consume(proxy.getBirthDate());
+    }
+
+    @Benchmark
+    public String stringGetter() {
+        return proxy.getName();
+    }
+}
@@ -0,0 +1,124 @@
+package com.java.common.functional.bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.factory.TryFactory;
+import com.java.common.functional.lambda.FunctionThrowable;
+
+/**
+ * Chemins success / failure de {@link TryFactory} et chainage when / mapWhen / flatWhen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryBenchmark {
+
+    @Param({"1", "0"})
+    public int divisor;
+
+    private FunctionThrowable<Integer, Try<Integer>> divide;
+    private Supplier<Try<Integer>> lazyDivide;
+    private Try<Integer> success;
+    private Try<Integer> failure;
+    private Predicate<Try<Integer>> always;
+
+    @Setup
+    public void setup() {
+        divide = TryFactory.of(i -> checkedDivide(i, divisor));
+        lazyDivide = TryFactory.<Integer, Integer>lazyOf(i -> checkedDivide(i, divisor)).apply(42);
+        success = TryFactory.success(42);
+        failure = TryFactory.failure(new IllegalStateException("bench"));
+        always = t -> true;
+    }
+
+    @Benchmark
+    public Try<Integer> of() {
+        return divide.apply(42);
+    }
+
+    @Benchmark
+    public Try<Integer> lazyOf() {
+        return lazyDivide.get();
+    }
+
+    @Benchmark
+    public Try<Integer> run() {
+        return TryFactory.run(() -> checkedDivide(42, divisor));
+    }
+
+    @Benchmark
+    public Try<Integer> whenChain() {
+        return divide.apply(42)
+            .when(Try::isSuccess, t -> t.getOrThrow() + 1)
+            .when(Try::isSuccess, t -> t.getOrThrow() * 2)
+            .when(Try::isSuccess, t -> t.getOrThrow() - 3);
+    }
+
+    @Benchmark
+    public Try<String> mapWhenChain() {
+        return divide.apply(42)
+            .mapWhen(Try::isSuccess, t -> t.getOrThrow() + 1L)
+            .mapWhen(Try::isSuccess, t -> t.getOrThrow() * 2d)
+            .mapWhen(Try::isSuccess, t -> String.valueOf(t.getOrThrow()));
+    }
+
+    @Benchmark
+    public Try<Integer> flatWhenChain() {
+        return divide.apply(42)
+            .flatWhen(Try::isSuccess, t -> TryFactory.success(t.getOrThrow() + 1))
+            .flatWhen(Try::isSuccess, t -> TryFactory.success(t.getOrThrow() * 2))
+            .flatWhen(Try::isSuccess, t -> TryFactory.success(t.getOrThrow() - 3));
+    }
+
+    @Benchmark
+    public Try<Integer> whenOnSuccess() {
+        return success.when(always, t -> t.getOrThrow() + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> whenOnFailure() {
+        return failure.when(always, t -> t.getOrThrow() + 1);
+    }
+
+    @Benchmark
+    public Try<Integer> failure() {
+        return TryFactory.failure(new IllegalStateException("bench"));
+    }
+
+    @Benchmark
+    public Try<Integer> stacklessFailure() {
+        return TryFactory.stacklessFailure("bench");
+    }
+
+    @Benchmark
+    public Try<Integer> failureCode() {
+        return TryFactory.failureCode("bench");
+    }
+
+    /**
+     * Division levant une exception construite explicitement : une ArithmeticException implicite fréquente est remplacée
+     * par le JIT par une instance préallouée sans stack trace, ce qui masquerait le coût réel d'une erreur
+     */
+    static int checkedDivide(int dividend, int divisor) {
+        if (divisor == 0) throw new ArithmeticException("/ by zero");
+        return dividend / divisor;
+    }
+}
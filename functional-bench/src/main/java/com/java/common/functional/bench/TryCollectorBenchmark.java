@@ -0,0 +1,178 @@
+package com.java.common.functional.bench;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.java.common.functional.IntTry;
+import com.java.common.functional.Try;
+import com.java.common.functional.factory.TryCollectorFactory;
+import com.java.common.functional.factory.TryFactory;
+import com.java.common.structure.FunctionalList;
+import com.java.common.structure.IntFunctionalList;
+
+/**
+ * Collecteurs de {@link TryCollectorFactory} sur un flux d'entiers.
+ * <br>
+ * {@code failAt} positionne la première erreur (-1 : aucune erreur).
+ * <br>
+ * En fin de mesure, {@link #checkConcurrentCollectRetention()} vérifie qu'après un {@code concurrentCollect} parallèle,
+ * aucune valeur collectée n'est retenue par les threads qui l'ont accumulée : la mesure échoue sinon. Le flux est exécuté
+ * dans un pool de 4 threads dédié, afin que plusieurs threads accumulent même sur une machine à un seul coeur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryCollectorBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"-1", "10"})
+    public int failAt;
+
+    private Function<Integer, Supplier<Try<Integer>>> lazy;
+    private Function<Integer, Supplier<Try<Try<Integer>>>> lazyFlat;
+    private Function<Integer, Try<Integer>> eager;
+    private IntFunction<IntTry> eagerInt;
+
+    @Setup
+    public void setup() {
+        final int fail = failAt;
+        lazy = TryFactory.lazyOf(i -> TryBenchmark.checkedDivide(i, i - fail));
+        lazyFlat = TryFactory.lazyOf(i -> TryFactory.success(TryBenchmark.checkedDivide(i, i - fail)));
+        eager = TryFactory.of(i -> TryBenchmark.checkedDivide(i, i - fail));
+        eagerInt = TryFactory.ofInt(i -> TryBenchmark.checkedDivide(i, i - fail));
+    }
+
+    @Benchmark
+    public Try<List<Integer>> collect() {
+        return IntStream.range(0, size).boxed()
+            .map(lazy)
+            .collect(TryCollectorFactory.collect());
+    }
+
+    @Benchmark
+    public Try<List<Integer>> parallelCollect() {
+        return IntStream.range(0, size).boxed().parallel()
+            .map(lazy)
+            .collect(TryCollectorFactory.parallelCollect());
+    }
+
+    @Benchmark
+    public Try<List<Integer>> concurrentCollect() {
+        return IntStream.range(0, size).boxed().parallel()
+            .map(lazy)
+            .collect(TryCollectorFactory.concurrentCollect());
+    }
+
+    @TearDown(Level.Trial)
+    public void checkConcurrentCollectRetention() throws InterruptedException, ExecutionException {
+        // le pool reste actif pendant la vérification : ses threads conserveraient ce qu'ils retiennent
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Try<List<Object>> result = pool.submit(() -> IntStream.range(0, size).parallel()
+                .mapToObj(i -> (Supplier<Try<Object>>) () -> TryFactory.success(new Object()))
+                .collect(TryCollectorFactory.concurrentCollect())
+            ).get();
+            List<WeakReference<Object>> collected = new ArrayList<>(size);
+            result.asSuccess().getResult().forEach(value -> collected.add(new WeakReference<>(value)));
+            result = null;
+
+            long retained = collected.size();
+            for (int attempt = 0; attempt < 10 && retained > 0; attempt++) {
+                System.gc();
+                Thread.sleep(50);
+                retained = collected.stream().filter(ref -> ref.get() != null).count();
+            }
+            if (retained > 0) throw new IllegalStateException(retained +" valeurs retenues après concurrentCollect");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Try<List<Integer>> lazyCollectFailFast() {
+        return TryCollectorFactory.lazyCollectFailFast(IntStream.range(0, size).boxed()
+            .map(lazy));
+    }
+
+    @Benchmark
+    public Try<List<Integer>> collectFailFast() {
+        return TryCollectorFactory.collectFailFast(IntStream.range(0, size).boxed()
+            .map(eager));
+    }
+
+    @Benchmark
+    public Try<Integer> lazyReduce() {
+        return IntStream.range(0, size).boxed()
+            .map(lazy)
+            .collect(TryCollectorFactory.lazyReduce());
+    }
+
+    @Benchmark
+    public Try<Integer> lazyFlatReduce() {
+        return IntStream.range(0, size).boxed()
+            .map(lazyFlat)
+            .collect(TryCollectorFactory.lazyFlatReduce());
+    }
+
+    @Benchmark
+    public FunctionalList<Integer> successOnly() {
+        return IntStream.range(0, size).boxed()
+            .map(eager)
+            .collect(TryCollectorFactory.successOnly());
+    }
+
+    @Benchmark
+    public FunctionalList<Integer> successOnlyParallel() {
+        return IntStream.range(0, size).boxed().parallel()
+            .map(eager)
+            .collect(TryCollectorFactory.successOnly());
+    }
+
+    @Benchmark
+    public Try<int[]> collectInt() {
+        return IntStream.range(0, size)
+            .mapToObj(eagerInt)
+            .collect(TryCollectorFactory.collectInt());
+    }
+
+    @Benchmark
+    public int[] successOnlyInt() {
+        return IntStream.range(0, size)
+            .mapToObj(eagerInt)
+            .collect(TryCollectorFactory.successOnlyInt());
+    }
+
+    @Benchmark
+    public IntFunctionalList successOnlyIntList() {
+        return IntStream.range(0, size)
+            .mapToObj(eagerInt)
+            .collect(TryCollectorFactory.successOnlyIntList());
+    }
+}
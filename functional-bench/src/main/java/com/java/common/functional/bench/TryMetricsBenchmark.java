@@ -0,0 +1,62 @@
+package com.java.common.functional.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.factory.TryFactory;
+import com.java.common.functional.lambda.FunctionThrowable;
+import com.java.common.functional.metrics.TryMetrics;
+
+/**
+ * Surcoût des factories nommées ({@link TryFactory#named(String)}), instrumentation désactivée puis activée
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryMetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    @Param({"1", "0"})
+    public int divisor;
+
+    private FunctionThrowable<Integer, Try<Integer>> divide;
+    private FunctionThrowable<Integer, Try<Integer>> namedDivide;
+
+    @Setup
+    public void setup() {
+        divide = TryFactory.of(i -> TryBenchmark.checkedDivide(i, divisor));
+        namedDivide = TryFactory.named("bench.divide").of(i -> TryBenchmark.checkedDivide(i, divisor));
+        if (enabled) {
+            TryMetrics.enable();
+        } else {
+            TryMetrics.disable();
+        }
+    }
+
+    @Benchmark
+    public Try<Integer> of() {
+        return divide.apply(42);
+    }
+
+    @Benchmark
+    public Try<Integer> namedOf() {
+        return namedDivide.apply(42);
+    }
+}
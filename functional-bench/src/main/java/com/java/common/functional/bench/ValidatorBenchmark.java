@@ -0,0 +1,91 @@
+package com.java.common.functional.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.java.common.functional.BulkValidator;
+import com.java.common.functional.Validator;
+
+/**
+ * Prédicats de {@link Validator} appliqués à un flux
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private List<String> strings;
+    private List<Integer> ints;
+    private int[] intArray;
+    private int[] comparators;
+    private Predicate<String> isInStrings;
+    private Predicate<Integer> isInInts;
+
+    @Setup
+    public void setup() {
+        strings = IntStream.range(0, size).mapToObj(i -> "value-" + i).collect(Collectors.toList());
+        ints = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        isInStrings = Validator.isIn(IntStream.range(0, 500).mapToObj(i -> "value-" + (i * 7)).collect(Collectors.toList()));
+        isInInts = Validator.isIn(IntStream.range(0, 500).mapToObj(i -> i * 7).collect(Collectors.toList()));
+        intArray = IntStream.range(0, size).toArray();
+        comparators = IntStream.range(0, 500).map(i -> i * 7).toArray();
+    }
+
+    @Benchmark
+    public long isInStrings() {
+        return strings.stream().filter(isInStrings).count();
+    }
+
+    @Benchmark
+    public long isInInts() {
+        return ints.stream().filter(isInInts).count();
+    }
+
+    @Benchmark
+    public int bulkIsInInts() {
+        return BulkValidator.isIn(intArray, comparators).cardinality();
+    }
+
+    @Benchmark
+    public int bulkIsInAndOdd() {
+        return BulkValidator.isIn(intArray, comparators)
+            .and(BulkValidator.test(intArray, i -> (i & 1) == 1))
+            .cardinality();
+    }
+
+    @Benchmark
+    public long distinctBy() {
+        return LongStream.range(0, size).map(i -> i % 1000).boxed().parallel()
+            .filter(Validator.distinctBy(l -> l))
+            .count();
+    }
+
+    @Benchmark
+    public long distinctByLong() {
+        return LongStream.range(0, size).map(i -> i % 1000).boxed().parallel()
+            .filter(Validator.distinctByLong(l -> l))
+            .count();
+    }
+}
@@ -0,0 +1,148 @@
+package com.java.common.functional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Combinaison (ET / OU) de predicates dont l'ordre d'évaluation s'adapte aux données, voir {@link Validator#allOf} et {@link Validator#anyOf}.
+ * <br>
+ * Un appel sur {@value #SAMPLE_RATE} est échantillonné : tous les predicates sont alors évalués et leur temps d'execution ainsi que
+ * leur taux de succès sont mesurés. Tous les {@value #SAMPLES_PER_WINDOW} échantillons, les predicates sont réordonnés afin d'évaluer
+ * en premier ceux qui sont à la fois peu coûteux et discriminants (coût / taux de rejet croissant pour un ET, coût / taux de succès pour un OU).
+ * <br>
+ * Les predicates doivent donc être sans effet de bord. Si le gel est activé, l'ordre est figé (et l'échantillonnage arrêté)
+ * dès qu'il est resté identique pendant {@value #STABLE_WINDOWS_TO_FREEZE} fenêtres consécutives.
+ * @param <T>
+ */
+public class AdaptivePredicate<T> implements Predicate<T> {
+
+    static final int SAMPLE_RATE = 16;
+    static final int SAMPLES_PER_WINDOW = 64;
+    static final int STABLE_WINDOWS_TO_FREEZE = 3;
+
+    private static final double MIN_RATE = 1e-3;
+
+    private final Predicate<? super T>[] predicates;
+    private final boolean conjunction;
+    private final boolean freezeWhenStable;
+
+    private final LongAdder[] nanos;
+    private final LongAdder[] evaluations;
+    private final LongAdder[] passes;
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicBoolean reordering = new AtomicBoolean();
+
+    private volatile int[] order;
+    private volatile boolean frozen;
+    private int stableWindows;
+
+    /**
+     * @param predicates Predicates à combiner, évalués initialement dans l'ordre donné (le tableau est copié)
+     * @param conjunction true pour un ET, false pour un OU
+     * @param freezeWhenStable true pour figer l'ordre une fois celui-ci stable
+     */
+    AdaptivePredicate(Predicate<? super T>[] predicates, boolean conjunction, boolean freezeWhenStable) {
+        this.predicates = predicates.clone();
+        this.conjunction = conjunction;
+        this.freezeWhenStable = freezeWhenStable;
+        this.order = IntStream.range(0, predicates.length).toArray();
+        this.nanos = newAdders(predicates.length);
+        this.evaluations = newAdders(predicates.length);
+        this.passes = newAdders(predicates.length);
+    }
+
+    @Override
+    public boolean test(T t) {
+        int[] current = order;
+        if (!frozen && ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+            return sample(t, current);
+        }
+        // ET : arrêt au premier echec, OU : arrêt au premier succès
+        boolean stop = !conjunction;
+        for (int i : current) {
+            if (predicates[i].test(t) == stop) return stop;
+        }
+        return !stop;
+    }
+
+    /**
+     * Retourne l'ordre d'évaluation courant (index des predicates dans l'ordre de création)
+     * @return
+     */
+    public int[] order() {
+        return order.clone();
+    }
+
+    /**
+     * Vérifie si l'ordre d'évaluation est figé
+     * @return
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Fige l'ordre d'évaluation courant et arrête l'échantillonnage
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    private boolean sample(T t, int[] current) {
+        boolean result = conjunction;
+        for (int i : current) {
+            long start = System.nanoTime();
+            boolean pass = predicates[i].test(t);
+            nanos[i].add(System.nanoTime() - start);
+            evaluations[i].increment();
+            if (pass) passes[i].increment();
+            result = conjunction ? result && pass : result || pass;
+        }
+        if (samples.incrementAndGet() % SAMPLES_PER_WINDOW == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    private void reorder() {
+        if (!reordering.compareAndSet(false, true)) return;
+        try {
+            double[] scores = new double[predicates.length];
+            for (int i = 0; i < predicates.length; i++) {
+                long count = Math.max(1, evaluations[i].sumThenReset());
+                double cost = (double) nanos[i].sumThenReset() / count;
+                double passRate = (double) passes[i].sumThenReset() / count;
+                // coût moyen par élément écarté (ET) ou accepté (OU)
+                scores[i] = cost / Math.max(MIN_RATE, conjunction ? 1 - passRate : passRate);
+            }
+
+            int[] next = IntStream.range(0, predicates.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> scores[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+            stableWindows = Arrays.equals(next, order) ? stableWindows + 1 : 0;
+            order = next;
+            if (freezeWhenStable && stableWindows >= STABLE_WINDOWS_TO_FREEZE) {
+                frozen = true;
+            }
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    private static LongAdder[] newAdders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
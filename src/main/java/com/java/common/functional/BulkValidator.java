@@ -0,0 +1,204 @@
+package com.java.common.functional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import com.java.common.structure.Bitmap;
+
+/**
+ * Evaluation en masse de predicates sur un tableau ou une liste : le résultat est un {@link Bitmap} (bit i à 1 si l'élément i est accepté),
+ * que l'on peut combiner avec d'autres résultats (and / or / not) sans réévaluer les éléments.
+ * <br>
+ * Les éléments sont traités par blocs de 64, chaque bloc produisant un mot du bitmap sans branchement;
+ * les surcharges sur tableaux de primitifs évitent tout boxing et ont chacune leur propre boucle, que le JIT peut vectoriser.
+ */
+public class BulkValidator {
+
+    private BulkValidator() {
+    }
+
+    /**
+     * Evalue un predicate sur chaque élément d'un tableau
+     * @param values Elements à évaluer
+     * @param predicate Predicate à appliquer
+     * @param <T>
+     * @return
+     */
+    public static <T> Bitmap test(T[] values, Predicate<? super T> predicate) {
+        return Bitmap.of(values.length, i -> predicate.test(values[i]));
+    }
+
+    /**
+     * Evalue un predicate sur chaque élément d'une liste
+     * @param values Elements à évaluer
+     * @param predicate Predicate à appliquer
+     * @param <T>
+     * @return
+     */
+    public static <T> Bitmap test(List<? extends T> values, Predicate<? super T> predicate) {
+        if (values instanceof RandomAccess) {
+            return Bitmap.of(values.size(), i -> predicate.test(values.get(i)));
+        }
+        // les index sont évalués dans l'ordre croissant : l'itérateur suit le même ordre
+        Iterator<? extends T> iterator = values.iterator();
+        return Bitmap.of(values.size(), i -> predicate.test(iterator.next()));
+    }
+
+    public static Bitmap test(int[] values, IntPredicate predicate) {
+        int size = values.length;
+        long[] words = new long[Bitmap.wordCount(size)];
+        for (int w = 0, base = 0; w < words.length; w++, base += 64) {
+            int end = Math.min(64, size - base);
+            long word = 0;
+            for (int b = 0; b < end; b++) {
+                word |= (predicate.test(values[base + b]) ? 1L : 0L) << b;
+            }
+            words[w] = word;
+        }
+        return Bitmap.ofWords(words, size);
+    }
+
+    public static Bitmap test(long[] values, LongPredicate predicate) {
+        int size = values.length;
+        long[] words = new long[Bitmap.wordCount(size)];
+        for (int w = 0, base = 0; w < words.length; w++, base += 64) {
+            int end = Math.min(64, size - base);
+            long word = 0;
+            for (int b = 0; b < end; b++) {
+                word |= (predicate.test(values[base + b]) ? 1L : 0L) << b;
+            }
+            words[w] = word;
+        }
+        return Bitmap.ofWords(words, size);
+    }
+
+    public static Bitmap test(double[] values, DoublePredicate predicate) {
+        int size = values.length;
+        long[] words = new long[Bitmap.wordCount(size)];
+        for (int w = 0, base = 0; w < words.length; w++, base += 64) {
+            int end = Math.min(64, size - base);
+            long word = 0;
+            for (int b = 0; b < end; b++) {
+                word |= (predicate.test(values[base + b]) ? 1L : 0L) << b;
+            }
+            words[w] = word;
+        }
+        return Bitmap.ofWords(words, size);
+    }
+
+    /**
+     * Equivalent en masse de {@link Validator#isNull()}
+     * @param values Elements à évaluer
+     * @return
+     */
+    public static Bitmap isNull(Object[] values) {
+        return Bitmap.of(values.length, i -> values[i] == null);
+    }
+
+    public static Bitmap isNull(List<?> values) {
+        return test(values, Validator.isNull());
+    }
+
+    /**
+     * Equivalent en masse de {@link Validator#isEquals(Object)} (égalité au sens de {@link Object#equals(Object)})
+     * @param values Elements à évaluer
+     * @param comparator Valeur de comparaison
+     * @return
+     */
+    public static Bitmap isEquals(Object[] values, Object comparator) {
+        return test(values, comparator == null ? Validator.isNull() : comparator::equals);
+    }
+
+    public static Bitmap isEquals(List<?> values, Object comparator) {
+        return test(values, comparator == null ? Validator.isNull() : comparator::equals);
+    }
+
+    public static Bitmap isEquals(int[] values, int comparator) {
+        int size = values.length;
+        long[] words = new long[Bitmap.wordCount(size)];
+        for (int w = 0, base = 0; w < words.length; w++, base += 64) {
+            int end = Math.min(64, size - base);
+            long word = 0;
+            for (int b = 0; b < end; b++) {
+                word |= (values[base + b] == comparator ? 1L : 0L) << b;
+            }
+            words[w] = word;
+        }
+        return Bitmap.ofWords(words, size);
+    }
+
+    public static Bitmap isEquals(long[] values, long comparator) {
+        int size = values.length;
+        long[] words = new long[Bitmap.wordCount(size)];
+        for (int w = 0, base = 0; w < words.length; w++, base += 64) {
+            int end = Math.min(64, size - base);
+            long word = 0;
+            for (int b = 0; b < end; b++) {
+                word |= (values[base + b] == comparator ? 1L : 0L) << b;
+            }
+            words[w] = word;
+        }
+        return Bitmap.ofWords(words, size);
+    }
+
+    /**
+     * Egalité au sens de {@link Double#equals(Object)} : NaN est égal à NaN, 0.0 est différent de -0.0
+     * @param values Elements à évaluer
+     * @param comparator Valeur de comparaison
+     * @return
+     */
+    public static Bitmap isEquals(double[] values, double comparator) {
+        long bits = Double.doubleToLongBits(comparator);
+        int size = values.length;
+        long[] words = new long[Bitmap.wordCount(size)];
+        for (int w = 0, base = 0; w < words.length; w++, base += 64) {
+            int end = Math.min(64, size - base);
+            long word = 0;
+            for (int b = 0; b < end; b++) {
+                word |= (Double.doubleToLongBits(values[base + b]) == bits ? 1L : 0L) << b;
+            }
+            words[w] = word;
+        }
+        return Bitmap.ofWords(words, size);
+    }
+
+    /**
+     * Equivalent en masse de {@link Validator#isIn(Collection)} : l'ensemble est compilé une seule fois pour tout le tableau
+     * @param values Elements à évaluer
+     * @param comparators Ensemble de valeur de comparaison
+     * @return
+     */
+    public static Bitmap isIn(Object[] values, Collection<?> comparators) {
+        return test(values, Membership.compile(comparators));
+    }
+
+    public static Bitmap isIn(List<?> values, Collection<?> comparators) {
+        return test(values, Membership.compile(comparators));
+    }
+
+    public static Bitmap isIn(int[] values, int...comparators) {
+        return test(values, Membership.compileInts(comparators));
+    }
+
+    public static Bitmap isIn(long[] values, long...comparators) {
+        return test(values, Membership.compileLongs(comparators));
+    }
+
+    /**
+     * Retourne les éléments d'un tableau dont le bit est à 1
+     * @param values Elements évalués
+     * @param bitmap Résultat de l'évaluation
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> select(T[] values, Bitmap bitmap) {
+        return bitmap.select(Arrays.asList(values));
+    }
+}
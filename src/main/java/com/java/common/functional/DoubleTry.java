@@ -0,0 +1,147 @@
+package com.java.common.functional;
+
+import com.java.common.functional.enums.TryType;
+import com.java.common.functional.impl.DoubleFailure;
+import com.java.common.functional.impl.DoubleSuccess;
+import com.java.common.functional.lambda.DoubleFunctionThrowable;
+import com.java.common.functional.lambda.DoubleUnaryOperatorThrowable;
+
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Spécialisation de {@link Try} pour le type primitif double (aucun boxing de la valeur)
+ */
+public interface DoubleTry {
+
+    /**
+     * Retourne le type de l'execution
+     *
+     * @return {@link com.java.common.functional.enums.TryType#SUCCESS} ou {@link com.java.common.functional.enums.TryType#FAILURE}
+     */
+    TryType getType();
+
+    /**
+     * Verifie si l'execution s'est déroulé sans erreur
+     *
+     * @return
+     */
+    boolean isSuccess();
+
+    /**
+     * Verifie si l'execution a rencontrer une erreur
+     *
+     * @return
+     */
+    boolean isFailure();
+
+    /**
+     * Cast l'instance en instance de {@link DoubleSuccess}
+     *
+     * @return
+     */
+    DoubleSuccess asSuccess();
+
+    /**
+     * Cast l'instance en instance de {@link DoubleFailure}
+     *
+     * @return
+     */
+    DoubleFailure asFailure();
+
+    /**
+     * Retourne la valeur potentielle ou OptionalDouble.empty()
+     *
+     * @return
+     */
+    OptionalDouble toOption();
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou la valeur par defaut
+     *
+     * @param defaultValue Valeur par defaut
+     *
+     * @return
+     */
+    double getOrElse(double defaultValue);
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou souleve l'erreur
+     *
+     * @return
+     *
+     * @throws Exception
+     */
+    double getOrThrow() throws Exception;
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou souleve l'erreur
+     *
+     * @param transformer Transforme l'exception en un type spécifié
+     *
+     * @return
+     *
+     * @throws ET
+     */
+    <ET extends Throwable> double getOrThrow(Function<Exception, ET> transformer) throws ET;
+
+    /**
+     * Si l'instance est de type SUCCESS: execute une lambda avec la valeur de l'instance
+     *
+     * @param consumer Lambda de type DoubleConsumer
+     */
+    void ifPresent(DoubleConsumer consumer);
+
+    /**
+     * Si l'instance est de type SUCCESS: execute une lambda avec la valeur de l'instance avant de renvoyer l'instance courante
+     *
+     * @param consumer Lambda de type DoubleConsumer
+     *
+     * @return Instance courante
+     */
+    DoubleTry peekIfPresent(DoubleConsumer consumer);
+
+    /**
+     * Si l'instance est de type FAILURE: execute une lambda avec l'erreur de l'instance
+     *
+     * @param consumer Lambda de type Consumer
+     */
+    void ifAbsent(Consumer<Exception> consumer);
+
+    /**
+     * Si l'instance est de type FAILURE: execute une lambda avec l'erreur de l'instance avant de renvoyer l'instance courante
+     *
+     * @param consumer Lambda de type Consumer
+     *
+     * @return Instance courante
+     */
+    DoubleTry peekIfAbsent(Consumer<Exception> consumer);
+
+    /**
+     * Si l'instance est de type SUCCESS: applique une transformation sur la valeur, les exceptions sont gérées
+     *
+     * @param mapper Lambda de transformation
+     *
+     * @return le résultat de la transformation (valeur ou erreur) ou bien l'instance courante
+     */
+    DoubleTry map(DoubleUnaryOperatorThrowable mapper);
+
+    /**
+     * Si l'instance est de type SUCCESS: applique une transformation vers un objet, les exceptions sont gérées
+     *
+     * @param mapper Lambda de transformation
+     * @param <O> Type de l'objet de sortie
+     *
+     * @return le résultat de la transformation (valeur ou erreur) ou bien l'erreur courante
+     */
+    <O> Try<O> mapToObj(DoubleFunctionThrowable<O> mapper);
+
+    /**
+     * Convertit l'instance en {@link Try} (la valeur est boxée)
+     *
+     * @return
+     */
+    Try<Double> boxed();
+}
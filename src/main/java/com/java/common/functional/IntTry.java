@@ -0,0 +1,147 @@
+package com.java.common.functional;
+
+import com.java.common.functional.enums.TryType;
+import com.java.common.functional.impl.IntFailure;
+import com.java.common.functional.impl.IntSuccess;
+import com.java.common.functional.lambda.IntFunctionThrowable;
+import com.java.common.functional.lambda.IntUnaryOperatorThrowable;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Spécialisation de {@link Try} pour le type primitif int (aucun boxing de la valeur)
+ */
+public interface IntTry {
+
+    /**
+     * Retourne le type de l'execution
+     *
+     * @return {@link com.java.common.functional.enums.TryType#SUCCESS} ou {@link com.java.common.functional.enums.TryType#FAILURE}
+     */
+    TryType getType();
+
+    /**
+     * Verifie si l'execution s'est déroulé sans erreur
+     *
+     * @return
+     */
+    boolean isSuccess();
+
+    /**
+     * Verifie si l'execution a rencontrer une erreur
+     *
+     * @return
+     */
+    boolean isFailure();
+
+    /**
+     * Cast l'instance en instance de {@link IntSuccess}
+     *
+     * @return
+     */
+    IntSuccess asSuccess();
+
+    /**
+     * Cast l'instance en instance de {@link IntFailure}
+     *
+     * @return
+     */
+    IntFailure asFailure();
+
+    /**
+     * Retourne la valeur potentielle ou OptionalInt.empty()
+     *
+     * @return
+     */
+    OptionalInt toOption();
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou la valeur par defaut
+     *
+     * @param defaultValue Valeur par defaut
+     *
+     * @return
+     */
+    int getOrElse(int defaultValue);
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou souleve l'erreur
+     *
+     * @return
+     *
+     * @throws Exception
+     */
+    int getOrThrow() throws Exception;
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou souleve l'erreur
+     *
+     * @param transformer Transforme l'exception en un type spécifié
+     *
+     * @return
+     *
+     * @throws ET
+     */
+    <ET extends Throwable> int getOrThrow(Function<Exception, ET> transformer) throws ET;
+
+    /**
+     * Si l'instance est de type SUCCESS: execute une lambda avec la valeur de l'instance
+     *
+     * @param consumer Lambda de type IntConsumer
+     */
+    void ifPresent(IntConsumer consumer);
+
+    /**
+     * Si l'instance est de type SUCCESS: execute une lambda avec la valeur de l'instance avant de renvoyer l'instance courante
+     *
+     * @param consumer Lambda de type IntConsumer
+     *
+     * @return Instance courante
+     */
+    IntTry peekIfPresent(IntConsumer consumer);
+
+    /**
+     * Si l'instance est de type FAILURE: execute une lambda avec l'erreur de l'instance
+     *
+     * @param consumer Lambda de type Consumer
+     */
+    void ifAbsent(Consumer<Exception> consumer);
+
+    /**
+     * Si l'instance est de type FAILURE: execute une lambda avec l'erreur de l'instance avant de renvoyer l'instance courante
+     *
+     * @param consumer Lambda de type Consumer
+     *
+     * @return Instance courante
+     */
+    IntTry peekIfAbsent(Consumer<Exception> consumer);
+
+    /**
+     * Si l'instance est de type SUCCESS: applique une transformation sur la valeur, les exceptions sont gérées
+     *
+     * @param mapper Lambda de transformation
+     *
+     * @return le résultat de la transformation (valeur ou erreur) ou bien l'instance courante
+     */
+    IntTry map(IntUnaryOperatorThrowable mapper);
+
+    /**
+     * Si l'instance est de type SUCCESS: applique une transformation vers un objet, les exceptions sont gérées
+     *
+     * @param mapper Lambda de transformation
+     * @param <O> Type de l'objet de sortie
+     *
+     * @return le résultat de la transformation (valeur ou erreur) ou bien l'erreur courante
+     */
+    <O> Try<O> mapToObj(IntFunctionThrowable<O> mapper);
+
+    /**
+     * Convertit l'instance en {@link Try} (la valeur est boxée)
+     *
+     * @return
+     */
+    Try<Integer> boxed();
+}
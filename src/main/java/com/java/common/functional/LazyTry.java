@@ -0,0 +1,88 @@
+package com.java.common.functional;
+
+import com.java.common.functional.factory.TryFactory;
+import com.java.common.functional.lambda.FunctionThrowable;
+import com.java.common.functional.lambda.SupplierThrowable;
+
+import java.util.function.Supplier;
+
+/**
+ * Valeur calculée au premier appel de {@link #get()} puis mémorisée.
+ * <br>
+ * Le calcul est executé au plus une fois, même en cas d'appels concurrents. Une fois la valeur calculée, {@link #get()} ne prend plus aucun verrou.
+ * Un calcul en erreur n'est pas mémorisé : l'appel suivant relance le calcul.
+ * <br><br>
+ * <b><u>Usage :</u></b><br>
+ * <code>
+ *  LazyTry&#60;Config&#62; config = TryFactory.lazy(() -> loadConfig())<br>
+ *  LazyTry&#60;String&#62; url = config.map(c -> c.getUrl())<br>
+ *  # aucun calcul n'a été effectué<br>
+ *  url.get()<br>
+ *  # loadConfig est executé une seule fois, quel que soit le nombre d'appels suivants
+ * </code>
+ * @param <T> Type de la valeur
+ */
+public final class LazyTry<T> implements Supplier<Try<T>> {
+
+    private volatile Try<T> value;
+    private SupplierThrowable<T> supplier;
+
+    /**
+     * @param supplier Lambda de calcul de la valeur
+     */
+    public LazyTry(SupplierThrowable<T> supplier) {
+        assert supplier != null;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Retourne le résultat du calcul, en l'executant s'il n'a pas encore été effectué avec succès
+     * @return
+     */
+    @Override
+    public Try<T> get() {
+        Try<T> result = value;
+        if (result != null) return result;
+
+        synchronized (this) {
+            result = value;
+            if (result != null) return result;
+
+            result = TryFactory.run(supplier);
+            if (result.isSuccess()) {
+                value = result;
+                // la lambda (et ce qu'elle capture) n'est plus nécessaire
+                supplier = null;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Vérifie si la valeur a été calculée avec succès
+     * @return
+     */
+    public boolean isEvaluated() {
+        return value != null;
+    }
+
+    /**
+     * Transforme la valeur sans déclencher son calcul : la transformation est elle-même calculée au plus une fois
+     * @param transformer Lambda de transformation, les exceptions sont gérées
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public <O> LazyTry<O> map(FunctionThrowable<T, O> transformer) {
+        return new LazyTry<>(() -> transformer.applyThrows(get().getOrThrow()));
+    }
+
+    /**
+     * Enchaine un second calcul paresseux à partir de la valeur, sans déclencher de calcul
+     * @param transformer Lambda retournant le second calcul
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public <O> LazyTry<O> flatMap(FunctionThrowable<T, LazyTry<O>> transformer) {
+        return new LazyTry<>(() -> transformer.applyThrows(get().getOrThrow()).get().getOrThrow());
+    }
+}
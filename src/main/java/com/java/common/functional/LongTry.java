@@ -0,0 +1,147 @@
+package com.java.common.functional;
+
+import com.java.common.functional.enums.TryType;
+import com.java.common.functional.impl.LongFailure;
+import com.java.common.functional.impl.LongSuccess;
+import com.java.common.functional.lambda.LongFunctionThrowable;
+import com.java.common.functional.lambda.LongUnaryOperatorThrowable;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Spécialisation de {@link Try} pour le type primitif long (aucun boxing de la valeur)
+ */
+public interface LongTry {
+
+    /**
+     * Retourne le type de l'execution
+     *
+     * @return {@link com.java.common.functional.enums.TryType#SUCCESS} ou {@link com.java.common.functional.enums.TryType#FAILURE}
+     */
+    TryType getType();
+
+    /**
+     * Verifie si l'execution s'est déroulé sans erreur
+     *
+     * @return
+     */
+    boolean isSuccess();
+
+    /**
+     * Verifie si l'execution a rencontrer une erreur
+     *
+     * @return
+     */
+    boolean isFailure();
+
+    /**
+     * Cast l'instance en instance de {@link LongSuccess}
+     *
+     * @return
+     */
+    LongSuccess asSuccess();
+
+    /**
+     * Cast l'instance en instance de {@link LongFailure}
+     *
+     * @return
+     */
+    LongFailure asFailure();
+
+    /**
+     * Retourne la valeur potentielle ou OptionalLong.empty()
+     *
+     * @return
+     */
+    OptionalLong toOption();
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou la valeur par defaut
+     *
+     * @param defaultValue Valeur par defaut
+     *
+     * @return
+     */
+    long getOrElse(long defaultValue);
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou souleve l'erreur
+     *
+     * @return
+     *
+     * @throws Exception
+     */
+    long getOrThrow() throws Exception;
+
+    /**
+     * Retourne la valeur si aucune erreur n'a été rencontré ou souleve l'erreur
+     *
+     * @param transformer Transforme l'exception en un type spécifié
+     *
+     * @return
+     *
+     * @throws ET
+     */
+    <ET extends Throwable> long getOrThrow(Function<Exception, ET> transformer) throws ET;
+
+    /**
+     * Si l'instance est de type SUCCESS: execute une lambda avec la valeur de l'instance
+     *
+     * @param consumer Lambda de type LongConsumer
+     */
+    void ifPresent(LongConsumer consumer);
+
+    /**
+     * Si l'instance est de type SUCCESS: execute une lambda avec la valeur de l'instance avant de renvoyer l'instance courante
+     *
+     * @param consumer Lambda de type LongConsumer
+     *
+     * @return Instance courante
+     */
+    LongTry peekIfPresent(LongConsumer consumer);
+
+    /**
+     * Si l'instance est de type FAILURE: execute une lambda avec l'erreur de l'instance
+     *
+     * @param consumer Lambda de type Consumer
+     */
+    void ifAbsent(Consumer<Exception> consumer);
+
+    /**
+     * Si l'instance est de type FAILURE: execute une lambda avec l'erreur de l'instance avant de renvoyer l'instance courante
+     *
+     * @param consumer Lambda de type Consumer
+     *
+     * @return Instance courante
+     */
+    LongTry peekIfAbsent(Consumer<Exception> consumer);
+
+    /**
+     * Si l'instance est de type SUCCESS: applique une transformation sur la valeur, les exceptions sont gérées
+     *
+     * @param mapper Lambda de transformation
+     *
+     * @return le résultat de la transformation (valeur ou erreur) ou bien l'instance courante
+     */
+    LongTry map(LongUnaryOperatorThrowable mapper);
+
+    /**
+     * Si l'instance est de type SUCCESS: applique une transformation vers un objet, les exceptions sont gérées
+     *
+     * @param mapper Lambda de transformation
+     * @param <O> Type de l'objet de sortie
+     *
+     * @return le résultat de la transformation (valeur ou erreur) ou bien l'erreur courante
+     */
+    <O> Try<O> mapToObj(LongFunctionThrowable<O> mapper);
+
+    /**
+     * Convertit l'instance en {@link Try} (la valeur est boxée)
+     *
+     * @return
+     */
+    Try<Long> boxed();
+}
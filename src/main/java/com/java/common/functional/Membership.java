@@ -0,0 +1,131 @@
+package com.java.common.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Compilation d'un ensemble de valeurs de comparaison en un prédicat d'appartenance, utilisé par {@link Validator#isIn}.
+ * <br>
+ * Les valeurs sont copiées à la création du prédicat, puis stockées selon leur type :
+ * EnumSet pour les enums, BitSet ou tableau trié pour les Integer / Long, table de hachage sinon.
+ */
+final class Membership {
+
+    /**
+     * En dessous de cette taille, une recherche linéaire est plus rapide qu'une table de hachage
+     */
+    private static final int LINEAR_SCAN_MAX_SIZE = 8;
+
+    /**
+     * Etendue maximale (max - min) des entiers stockés dans un BitSet (8 Ko)
+     */
+    private static final int BITSET_MAX_RANGE = 1 << 16;
+
+    private Membership() {
+    }
+
+    /**
+     * Compile un ensemble de valeurs en prédicat d'appartenance (au sens de {@link Object#equals(Object)})
+     * @param comparators Valeurs de comparaison, copiées
+     * @return
+     */
+    static Predicate<Object> compile(Collection<?> comparators) {
+        List<Object> values = new ArrayList<>(comparators.size());
+        boolean hasNull = false;
+        for (Object value : comparators) {
+            if (value == null) hasNull = true;
+            else values.add(value);
+        }
+
+        Predicate<Object> contains = compileNonNull(values);
+        if (!hasNull) return contains;
+        return obj -> obj == null || contains.test(obj);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate<Object> compileNonNull(List<Object> values) {
+        if (values.isEmpty()) return obj -> false;
+
+        Class<?> type = commonClass(values);
+        if (type != null && type.isEnum()) {
+            Set enums = EnumSet.noneOf((Class<Enum>) type);
+            enums.addAll(values);
+            return obj -> obj != null && enums.contains(obj);
+        }
+        if (type == Integer.class) {
+            IntPredicate ints = compileInts(values.stream().mapToInt(v -> (Integer) v).toArray());
+            return obj -> obj instanceof Integer && ints.test((Integer) obj);
+        }
+        if (type == Long.class) {
+            LongPredicate longs = compileLongs(values.stream().mapToLong(v -> (Long) v).toArray());
+            return obj -> obj instanceof Long && longs.test((Long) obj);
+        }
+        if (values.size() <= LINEAR_SCAN_MAX_SIZE) {
+            Object[] array = values.toArray();
+            return obj -> {
+                if (obj == null) return false;
+                for (Object value : array) {
+                    if (value.equals(obj)) return true;
+                }
+                return false;
+            };
+        }
+        Set<Object> set = new HashSet<>(values);
+        return obj -> obj != null && set.contains(obj);
+    }
+
+    /**
+     * Compile un ensemble d'entiers en prédicat d'appartenance : BitSet si leur étendue est réduite, tableau trié sinon
+     * @param ints Valeurs de comparaison, copiées
+     * @return
+     */
+    static IntPredicate compileInts(int[] ints) {
+        if (ints.length == 0) return i -> false;
+
+        int min = Arrays.stream(ints).min().getAsInt();
+        int max = Arrays.stream(ints).max().getAsInt();
+        if ((long) max - min < BITSET_MAX_RANGE) {
+            BitSet bits = new BitSet(max - min + 1);
+            for (int i : ints) {
+                bits.set(i - min);
+            }
+            return i -> i >= min && i <= max && bits.get(i - min);
+        }
+        int[] sorted = Arrays.stream(ints).sorted().distinct().toArray();
+        return i -> Arrays.binarySearch(sorted, i) >= 0;
+    }
+
+    /**
+     * Compile un ensemble d'entiers longs en prédicat d'appartenance (tableau trié)
+     * @param longs Valeurs de comparaison, copiées
+     * @return
+     */
+    static LongPredicate compileLongs(long[] longs) {
+        if (longs.length == 0) return l -> false;
+
+        long[] sorted = Arrays.stream(longs).sorted().distinct().toArray();
+        return l -> Arrays.binarySearch(sorted, l) >= 0;
+    }
+
+    /**
+     * Retourne la classe commune à toutes les valeurs (la classe déclarante pour les enums), ou null
+     */
+    private static Class<?> commonClass(List<Object> values) {
+        Class<?> type = null;
+        for (Object value : values) {
+            Class<?> current = value instanceof Enum ? ((Enum<?>) value).getDeclaringClass() : value.getClass();
+            if (type == null) type = current;
+            else if (type != current) return null;
+        }
+        return type;
+    }
+}
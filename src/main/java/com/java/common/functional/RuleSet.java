@@ -0,0 +1,209 @@
+package com.java.common.functional;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import com.java.common.functional.exception.ValidationException;
+import com.java.common.functional.factory.TryFactory;
+import com.java.common.functional.lambda.FunctionThrowable;
+import com.java.common.functional.lambda.PredicateThrowable;
+
+/**
+ * Ensemble de règles de validation, voir {@link Validator#rules()}.
+ * <br>
+ * Toutes les règles sont évaluées en une seule passe et les erreurs sont accumulées dans une seule {@link ValidationException} :
+ * une validation réussie n'alloue que le {@link Try} retourné, une validation en échec un tableau d'erreurs dimensionné sur le nombre de règles.
+ * <br>
+ * Une instance est immuable (l'ajout d'une règle retourne un nouvel ensemble) et peut être partagée entre plusieurs threads,
+ * tant que les règles qui la composent sont elles-mêmes thread-safe.
+ * @param <T>
+ */
+public final class RuleSet<T> {
+
+    private final String[] codes;
+    private final PredicateThrowable<? super T>[] rules;
+
+    @SuppressWarnings("unchecked")
+    RuleSet() {
+        this(new String[0], (PredicateThrowable<? super T>[]) new PredicateThrowable<?>[0]);
+    }
+
+    private RuleSet(String[] codes, PredicateThrowable<? super T>[] rules) {
+        this.codes = codes;
+        this.rules = rules;
+    }
+
+    /**
+     * Retourne un nouvel ensemble complété d'une règle : l'objet est rejeté si le predicate retourne false ou soulève une exception
+     * @param code Code d'erreur de la règle
+     * @param predicate Predicate à respecter, voir {@link Validator}
+     * @return
+     */
+    public RuleSet<T> rule(String code, Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return add(code, predicate::test);
+    }
+
+    /**
+     * Retourne un nouvel ensemble complété d'une règle : l'objet est rejeté si le contrôle soulève une exception
+     * @param code Code d'erreur de la règle
+     * @param check Contrôle à executer, son résultat est ignoré
+     * @return
+     */
+    public RuleSet<T> check(String code, FunctionThrowable<? super T, ?> check) {
+        Objects.requireNonNull(check);
+        return add(code, t -> {
+            check.applyThrows(t);
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * Retourne le nombre de règles
+     * @return
+     */
+    public int size() {
+        return rules.length;
+    }
+
+    /**
+     * Vérifie si l'objet respecte toutes les règles, en s'arrêtant à la première règle non respectée
+     * @param value Objet à valider
+     * @return
+     */
+    public boolean isValid(T value) {
+        for (PredicateThrowable<? super T> rule : rules) {
+            try {
+                if (!rule.testThrows(value)) return false;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Valide un objet avec toutes les règles
+     * @param value Objet à valider
+     * @return Un succès contenant l'objet, ou un échec contenant une {@link ValidationException} listant toutes les règles non respectées
+     */
+    public Try<T> validate(T value) {
+        Errors errors = validate(value, -1, null);
+        return errors == null ? TryFactory.success(value) : TryFactory.failure(errors.toException());
+    }
+
+    /**
+     * Valide séquentiellement chaque objet d'une liste, voir {@link #validateAll(List, boolean)}
+     * @param values Objets à valider
+     * @return
+     */
+    public Try<List<T>> validateAll(List<? extends T> values) {
+        return validateAll(values, false);
+    }
+
+    /**
+     * Valide chaque objet d'une liste avec toutes les règles
+     * @param values Objets à valider
+     * @param parallel true pour répartir la validation des objets sur le ForkJoinPool commun
+     * @return Un succès contenant une copie de la liste, ou un échec contenant une {@link ValidationException}
+     * listant toutes les règles non respectées par tous les objets (dans l'ordre de la liste)
+     */
+    @SuppressWarnings("unchecked")
+    public Try<List<T>> validateAll(List<? extends T> values, boolean parallel) {
+        T[] array = (T[]) values.toArray();
+        Errors errors = null;
+        if (parallel) {
+            Errors[] slots = new Errors[array.length];
+            IntStream.range(0, array.length).parallel().forEach(i -> slots[i] = validate(array[i], i, null));
+            for (Errors slot : slots) {
+                if (slot != null) errors = errors == null ? slot : errors.addAll(slot);
+            }
+        } else {
+            for (int i = 0; i < array.length; i++) {
+                errors = validate(array[i], i, errors);
+            }
+        }
+        return errors == null
+            ? TryFactory.success(Collections.unmodifiableList(Arrays.asList(array)))
+            : TryFactory.failure(errors.toException());
+    }
+
+    /**
+     * Evalue toutes les règles sur un objet, les erreurs sont ajoutées à l'accumulateur donné (créé à la première erreur si null)
+     */
+    private Errors validate(T value, int index, Errors errors) {
+        for (int i = 0; i < rules.length; i++) {
+            Exception cause = null;
+            boolean valid;
+            try {
+                valid = rules[i].testThrows(value);
+            } catch (Exception e) {
+                valid = false;
+                cause = e;
+            }
+            if (!valid) {
+                if (errors == null) errors = new Errors(rules.length);
+                errors.add(codes[i], index, cause);
+            }
+        }
+        return errors;
+    }
+
+    private RuleSet<T> add(String code, PredicateThrowable<? super T> rule) {
+        Objects.requireNonNull(code);
+        String[] nextCodes = Arrays.copyOf(codes, codes.length + 1);
+        PredicateThrowable<? super T>[] nextRules = Arrays.copyOf(rules, rules.length + 1);
+        nextCodes[codes.length] = code;
+        nextRules[rules.length] = rule;
+        return new RuleSet<>(nextCodes, nextRules);
+    }
+
+    /**
+     * Growable parallel arrays of errors, sized on the rule count up front.
+     */
+    private static final class Errors {
+
+        private String[] codes;
+        private int[] elements;
+        private Exception[] causes;
+        private int count;
+
+        Errors(int capacity) {
+            codes = new String[capacity];
+            elements = new int[capacity];
+            causes = new Exception[capacity];
+        }
+
+        void add(String code, int element, Exception cause) {
+            if (count == codes.length) grow(count + 1);
+            codes[count] = code;
+            elements[count] = element;
+            causes[count] = cause;
+            count++;
+        }
+
+        Errors addAll(Errors other) {
+            if (count + other.count > codes.length) grow(count + other.count);
+            System.arraycopy(other.codes, 0, codes, count, other.count);
+            System.arraycopy(other.elements, 0, elements, count, other.count);
+            System.arraycopy(other.causes, 0, causes, count, other.count);
+            count += other.count;
+            return this;
+        }
+
+        private void grow(int minCapacity) {
+            int capacity = Math.max(minCapacity, codes.length * 2);
+            codes = Arrays.copyOf(codes, capacity);
+            elements = Arrays.copyOf(elements, capacity);
+            causes = Arrays.copyOf(causes, capacity);
+        }
+
+        ValidationException toException() {
+            return new ValidationException(Arrays.copyOf(codes, count), Arrays.copyOf(elements, count), Arrays.copyOf(causes, count));
+        }
+    }
+}
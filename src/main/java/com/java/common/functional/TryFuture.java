@@ -0,0 +1,126 @@
+package com.java.common.functional;
+
+import com.java.common.functional.lambda.FunctionThrowable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Résultat asynchrone d'une execution pouvant provoquer une erreur : une fois terminée, la valeur est un {@link Try}.
+ * <br>
+ * Les transformations ne sont jamais bloquantes, elles sont appliquées à la fin de l'execution.
+ * Un TryFuture ne se termine jamais en erreur : les exceptions (y compris l'annulation) sont converties en Failure.
+ *
+ * @param <E> Type de la valeur
+ */
+public interface TryFuture<E> {
+
+    /**
+     * Vérifie si l'execution est terminée
+     *
+     * @return
+     */
+    boolean isDone();
+
+    /**
+     * Si le résultat est de type SUCCESS: applique une transformation sur la valeur, les exceptions sont gérées
+     *
+     * @param transformer Lambda de transformation
+     * @param <O> Type de l'objet de sortie
+     *
+     * @return le résultat asynchrone de la transformation (valeur ou erreur) ou bien l'erreur courante
+     */
+    <O> TryFuture<O> map(FunctionThrowable<E, O> transformer);
+
+    /**
+     * Si le résultat est de type SUCCESS: enchaine une nouvelle execution asynchrone à partir de la valeur, les exceptions sont gérées
+     *
+     * @param transformer Lambda retournant une nouvelle execution asynchrone
+     * @param <O> Type de l'objet de sortie
+     *
+     * @return le résultat de la seconde execution ou bien l'erreur courante
+     */
+    <O> TryFuture<O> flatMap(FunctionThrowable<E, TryFuture<O>> transformer);
+
+    /**
+     * Equivalent asynchrone de {@link Try#when(Predicate, FunctionThrowable)}
+     *
+     * @param predicate   Contrainte à appliquer sur le résultat
+     * @param transformer Lambda de transformation, les exceptions sont gérées
+     *
+     * @return
+     */
+    TryFuture<E> when(Predicate<Try<E>> predicate, FunctionThrowable<Try<E>, E> transformer);
+
+    /**
+     * Equivalent asynchrone de {@link Try#flatWhen(Predicate, FunctionThrowable)}
+     *
+     * @param predicate   Contrainte à appliquer sur le résultat
+     * @param transformer Lambda de transformation (retourne une instance de ITRY), les exceptions sont gérées
+     *
+     * @return
+     */
+    TryFuture<E> flatWhen(Predicate<Try<E>> predicate, FunctionThrowable<Try<E>, Try<E>> transformer);
+
+    /**
+     * Equivalent asynchrone de {@link Try#mapWhen(Predicate, FunctionThrowable)}
+     *
+     * @param predicate   Contrainte à appliquer sur le résultat
+     * @param transformer Lambda de transformation, les exceptions sont gérées
+     *
+     * @return
+     */
+    <O> TryFuture<O> mapWhen(Predicate<Try<E>> predicate, FunctionThrowable<Try<E>, O> transformer);
+
+    /**
+     * Equivalent asynchrone de {@link Try#mapFlatWhen(Predicate, FunctionThrowable)}
+     *
+     * @param predicate   Contrainte à appliquer sur le résultat
+     * @param transformer Lambda de transformation (retourne une instance de ITRY), les exceptions sont gérées
+     *
+     * @return
+     */
+    <O> TryFuture<O> mapFlatWhen(Predicate<Try<E>> predicate, FunctionThrowable<Try<E>, Try<O>> transformer);
+
+    /**
+     * Execute une lambda avec le résultat à la fin de l'execution avant de renvoyer l'instance courante
+     *
+     * @param consumer Lambda de type Consumer
+     *
+     * @return Instance courante
+     */
+    TryFuture<E> peek(Consumer<Try<E>> consumer);
+
+    /**
+     * Attend la fin de l'execution et retourne son résultat
+     *
+     * @return
+     */
+    Try<E> join();
+
+    /**
+     * Attend la fin de l'execution et retourne son résultat, ou une Failure contenant une TimeoutException si le délai est dépassé
+     *
+     * @param timeout Délai maximum
+     * @param unit Unité du délai
+     *
+     * @return
+     */
+    Try<E> join(long timeout, TimeUnit unit);
+
+    /**
+     * Retourne un CompletableFuture dont la valeur est le résultat de l'execution
+     *
+     * @return
+     */
+    CompletableFuture<Try<E>> toCompletableFuture();
+
+    /**
+     * Retourne un CompletableFuture dont la valeur est celle d'un SUCCESS, ou qui se termine en erreur avec l'exception d'une FAILURE
+     *
+     * @return
+     */
+    CompletableFuture<E> toValueFuture();
+}
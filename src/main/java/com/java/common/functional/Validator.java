@@ -4,11 +4,17 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
+import com.java.common.functional.cache.BoundedCache;
 import com.java.common.functional.factory.TryFactory;
 import com.java.common.functional.lambda.FunctionThrowable;
+import com.java.common.structure.BloomFilter;
+import com.java.common.structure.ConcurrentLongHashSet;
 
 public class Validator {
 
@@ -17,6 +23,142 @@ public class Validator {
         return obj -> cache.putIfAbsent(keyExtractor.apply(obj), Boolean.TRUE) == null;
     }
 
+    /**
+     * Equivalent borné de {@link #distinctBy(Function)} : seules les dernières clés rencontrées sont conservées (éviction LRU).
+     * <br>
+     * Un objet dont la clé a été oubliée est de nouveau accepté.
+     * @param keyExtractor Lambda d'extraction de la clé
+     * @param maxKeys Nombre maximum de clés conservées
+     * @param <T>
+     * @return
+     */
+    public static <T> Predicate<T> distinctBy(Function<? super T, Object> keyExtractor, int maxKeys) {
+        BoundedCache<Object, Boolean> cache = new BoundedCache<>(maxKeys);
+        return obj -> cache.putIfAbsent(keyExtractor.apply(obj), Boolean.TRUE) == null;
+    }
+
+    /**
+     * Equivalent borné de {@link #distinctBy(Function)} sur une fenêtre de temps : une clé est oubliée une fois la durée écoulée
+     * depuis sa première apparition, l'objet suivant ayant cette clé est alors de nouveau accepté.
+     * <br>
+     * Les clés expirées sont supprimées au fil des ajouts : la mémoire utilisée dépend du nombre de clés distinctes
+     * rencontrées sur la fenêtre, et non sur toute la durée du flux.
+     * @param keyExtractor Lambda d'extraction de la clé
+     * @param window Durée de conservation d'une clé
+     * @param unit Unité de la durée
+     * @param <T>
+     * @return
+     */
+    public static <T> Predicate<T> distinctBy(Function<? super T, Object> keyExtractor, long window, TimeUnit unit) {
+        BoundedCache<Object, Boolean> cache = new BoundedCache<>(Integer.MAX_VALUE);
+        long windowNanos = unit.toNanos(window);
+        return obj -> cache.putIfAbsentWithTtl(keyExtractor.apply(obj), Boolean.TRUE, windowNanos) == null;
+    }
+
+    /**
+     * Equivalent approximatif de {@link #distinctBy(Function)} basé sur un {@link BloomFilter}, dont l'empreinte mémoire est fixe.
+     * <br>
+     * Un doublon n'est jamais accepté, y compris sur un flux parallèle; un objet dont la clé n'a jamais été rencontrée est rejeté à tort avec une probabilité
+     * proche du taux de faux positifs, tant que le nombre de clés distinctes ne dépasse pas le nombre prévu.
+     * @param keyExtractor Lambda d'extraction de la clé
+     * @param expectedKeys Nombre de clés distinctes prévues
+     * @param falsePositiveRate Taux de faux positifs (ex: 0.01)
+     * @param <T>
+     * @return
+     */
+    public static <T> Predicate<T> approximateDistinctBy(Function<? super T, Object> keyExtractor, long expectedKeys, double falsePositiveRate) {
+        BloomFilter filter = new BloomFilter(expectedKeys, falsePositiveRate);
+        return obj -> filter.put(keyExtractor.apply(obj));
+    }
+
+    /**
+     * Equivalent de {@link #distinctBy(Function)} pour une clé de type long : les clés ne sont pas boxées
+     * et sont conservées dans un {@link ConcurrentLongHashSet}, adapté aux flux parallèles.
+     * @param keyExtractor Lambda d'extraction de la clé
+     * @param <T>
+     * @return
+     */
+    public static <T> Predicate<T> distinctByLong(ToLongFunction<? super T> keyExtractor) {
+        ConcurrentLongHashSet seen = new ConcurrentLongHashSet();
+        return obj -> seen.add(keyExtractor.applyAsLong(obj));
+    }
+
+    /**
+     * Equivalent de {@link #distinctByLong(ToLongFunction)} pour une clé de type int
+     * @param keyExtractor Lambda d'extraction de la clé
+     * @param <T>
+     * @return
+     */
+    public static <T> Predicate<T> distinctByInt(ToIntFunction<? super T> keyExtractor) {
+        ConcurrentLongHashSet seen = new ConcurrentLongHashSet();
+        return obj -> seen.add(keyExtractor.applyAsInt(obj));
+    }
+
+    /**
+     * Combine plusieurs predicates par un ET logique, dans un ordre d'évaluation qui s'adapte au coût et à la sélectivité mesurés de chacun.
+     * <br>
+     * Voir {@link AdaptivePredicate}, les predicates doivent être sans effet de bord.
+     * @param predicates Predicates à combiner
+     * @param <T>
+     * @return
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> AdaptivePredicate<T> allOf(Predicate<? super T>...predicates) {
+        return allOf(false, predicates);
+    }
+
+    /**
+     * See {@link #allOf(Predicate[])}
+     * @param freezeWhenStable true pour figer l'ordre d'évaluation dès qu'il est stable
+     * @param predicates Predicates à combiner
+     * @param <T>
+     * @return
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> AdaptivePredicate<T> allOf(boolean freezeWhenStable, Predicate<? super T>...predicates) {
+        return new AdaptivePredicate<>(predicates, true, freezeWhenStable);
+    }
+
+    /**
+     * Combine plusieurs predicates par un OU logique, dans un ordre d'évaluation qui s'adapte au coût et à la sélectivité mesurés de chacun.
+     * <br>
+     * Voir {@link AdaptivePredicate}, les predicates doivent être sans effet de bord.
+     * @param predicates Predicates à combiner
+     * @param <T>
+     * @return
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> AdaptivePredicate<T> anyOf(Predicate<? super T>...predicates) {
+        return anyOf(false, predicates);
+    }
+
+    /**
+     * See {@link #anyOf(Predicate[])}
+     * @param freezeWhenStable true pour figer l'ordre d'évaluation dès qu'il est stable
+     * @param predicates Predicates à combiner
+     * @param <T>
+     * @return
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> AdaptivePredicate<T> anyOf(boolean freezeWhenStable, Predicate<? super T>...predicates) {
+        return new AdaptivePredicate<>(predicates, false, freezeWhenStable);
+    }
+
+    /**
+     * Retourne un ensemble de règles vide, à compléter par {@link RuleSet#rule} et {@link RuleSet#check}.
+     * <br>
+     * Voir {@link RuleSet}, toutes les règles sont évaluées en une seule passe et les erreurs accumulées dans un seul {@link Try}.
+     * @param <T>
+     * @return
+     */
+    public static <T> RuleSet<T> rules() {
+        return new RuleSet<>();
+    }
+
     public static <T> Predicate<T> isNull() {
         return obj -> obj == null;
     }
@@ -33,13 +175,24 @@ public class Validator {
         return obj -> !obj.isEmpty();
     }
 
+    /**
+     * Retourne un predicate permettant de verifier si une valeur transformée fait partie d'un ensemble.
+     * <br>
+     * L'ensemble est copié et compilé une seule fois, à la création du predicate (EnumSet, BitSet, tableau trié ou table de hachage selon le type des valeurs)
+     * @param transformer Transformation appliquée à la valeur avant comparaison
+     * @param comparators Ensemble de valeur de comparaison
+     * @param <O>
+     * @param <T>
+     * @return
+     */
     @SafeVarargs
     public static <O,T> Predicate<O> isIn(Function<O,T> transformer, T...comparators) {
-        return obj -> Arrays.asList(comparators).contains(transformer.apply(obj));
+        return isIn(transformer, Arrays.asList(comparators));
     }
 
     public static <O,T> Predicate<O> isIn(Function<O,T> transformer, Collection<T> comparators) {
-        return obj -> comparators.contains(transformer.apply(obj));
+        Predicate<Object> contains = Membership.compile(comparators);
+        return obj -> contains.test(transformer.apply(obj));
     }
 
     /**
@@ -58,11 +211,12 @@ public class Validator {
     }
 
     public static <O,T> Predicate<O> isNotIn(Function<O,T> transformer, T...comparators) {
-        return obj -> !Arrays.asList(comparators).contains(transformer.apply(obj));
+        return isNotIn(transformer, Arrays.asList(comparators));
     }
     
     public static <O,T> Predicate<O> isNotIn(Function<O,T> transformer, Collection<T> comparators) {
-        return obj -> !comparators.contains(transformer.apply(obj));
+        Predicate<Object> contains = Membership.compile(comparators);
+        return obj -> !contains.test(transformer.apply(obj));
     }
 
     public static <T> Predicate<T> isNotIn(T...comparators) {
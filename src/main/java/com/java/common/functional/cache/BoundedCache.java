@@ -0,0 +1,234 @@
+package com.java.common.functional.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache concurrent borné en nombre d'éléments, avec éviction LRU.
+ * <br>
+ * Le cache est découpé en segments indépendants (chacun étant une LinkedHashMap en ordre d'accès protégée par son propre verrou),
+ * l'éviction LRU est donc réalisée par segment. Chaque valeur peut avoir une date d'expiration : les valeurs expirées
+ * sont supprimées lors de leur accès, ou lors d'un ajout dans leur segment tant qu'elles sont en tête de l'ordre d'accès.
+ * Avec une durée de vie commune à toutes les valeurs, une valeur expirée est ainsi supprimée au premier ajout dans son segment
+ * survenant une durée de vie après son dernier accès : la taille du cache reste bornée par le volume d'ajouts sur la durée de vie,
+ * même sans taille maximale effective.
+ * <br>
+ * Les statistiques ne comptent comme évictions que les suppressions faute de place, pas les expirations.
+ * @param <K> Type des clés
+ * @param <V> Type des valeurs
+ */
+public class BoundedCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final long NO_EXPIRATION = 0L;
+
+    private final Segment<K, V>[] segments;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize Nombre maximum d'éléments du cache
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedCache(int maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("La taille du cache doit être positive! ["+ maximumSize +"]");
+        int count = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[count];
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) {
+            int capacity = maximumSize / count + (i < maximumSize % count ? 1 : 0);
+            segments[i] = new Segment<>(capacity, evictions);
+        }
+    }
+
+    /**
+     * Retourne la valeur associée à la clé, ou null si elle est absente ou expirée
+     * @param key Clé de la valeur
+     * @return
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            CacheEntry<V> entry = segment.get(key);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                segment.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Associe une valeur à une clé, sans expiration
+     * @param key Clé de la valeur
+     * @param value Valeur
+     */
+    public void put(K key, V value) {
+        put(key, value, NO_EXPIRATION);
+    }
+
+    /**
+     * Associe une valeur à une clé pour une durée limitée
+     * @param key Clé de la valeur
+     * @param value Valeur
+     * @param ttlNanos Durée de vie de la valeur en nanosecondes
+     */
+    public void putWithTtl(K key, V value, long ttlNanos) {
+        put(key, value, expireAt(ttlNanos));
+    }
+
+    private static long expireAt(long ttlNanos) {
+        long expireAt = System.nanoTime() + ttlNanos;
+        return expireAt == NO_EXPIRATION ? 1L : expireAt;
+    }
+
+    private void put(K key, V value, long expireAt) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.purgeExpired(System.nanoTime());
+            segment.put(key, new CacheEntry<>(value, expireAt));
+        }
+    }
+
+    /**
+     * Associe une valeur à une clé si aucune valeur (non expirée) ne lui est associée
+     * @param key Clé de la valeur
+     * @param value Valeur
+     * @return La valeur déjà associée à la clé, ou null si la valeur a été ajoutée
+     */
+    public V putIfAbsent(K key, V value) {
+        return putIfAbsent(key, value, NO_EXPIRATION);
+    }
+
+    /**
+     * Associe une valeur à une clé pour une durée limitée si aucune valeur (non expirée) ne lui est associée
+     * @param key Clé de la valeur
+     * @param value Valeur
+     * @param ttlNanos Durée de vie de la valeur en nanosecondes
+     * @return La valeur déjà associée à la clé, ou null si la valeur a été ajoutée
+     */
+    public V putIfAbsentWithTtl(K key, V value, long ttlNanos) {
+        return putIfAbsent(key, value, expireAt(ttlNanos));
+    }
+
+    private V putIfAbsent(K key, V value, long expireAt) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            long now = System.nanoTime();
+            CacheEntry<V> entry = segment.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                hits.increment();
+                return entry.value;
+            }
+            misses.increment();
+            segment.purgeExpired(now);
+            segment.put(key, new CacheEntry<>(value, expireAt));
+            return null;
+        }
+    }
+
+    /**
+     * Supprime la valeur associée à la clé
+     * @param key Clé de la valeur
+     */
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Vide le cache
+     */
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Retourne le nombre d'éléments du cache (les valeurs expirées non encore supprimées sont comptées)
+     * @return
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Retourne les statistiques du cache
+     * @return
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return segments[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expireAt;
+
+        private CacheEntry(V value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expireAt != NO_EXPIRATION && expireAt - now <= 0;
+        }
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, CacheEntry<V>> {
+
+        private static final long serialVersionUID = 2386152208337496452L;
+
+        private final int capacity;
+        private final transient LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        /**
+         * Supprime les valeurs expirées en tête de l'ordre d'accès, jusqu'à la première valeur non expirée
+         */
+        private void purgeExpired(long now) {
+            Iterator<CacheEntry<V>> it = values().iterator();
+            while (it.hasNext() && it.next().isExpired(now)) {
+                it.remove();
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.java.common.functional.cache;
+
+import lombok.Getter;
+
+/**
+ * Statistiques d'un cache à un instant donné
+ */
+public final class CacheStats {
+
+    @Getter private final long hitCount;
+    @Getter private final long missCount;
+    @Getter private final long evictionCount;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Retourne le nombre total d'accès au cache
+     * @return
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Retourne la proportion d'accès ayant trouvé une valeur (1.0 si aucun accès)
+     * @return
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hitCount="+ hitCount +", missCount="+ missCount +", evictionCount="+ evictionCount +"}";
+    }
+}
@@ -0,0 +1,85 @@
+package com.java.common.functional.cache;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.factory.TryFactory;
+import com.java.common.functional.lambda.FunctionThrowable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fonction mémorisant les résultats d'une FunctionThrowable dans un {@link BoundedCache}.
+ * <br>
+ * Les SUCCESS sont conservés jusqu'à leur éviction, les FAILURE uniquement pendant une durée limitée (ou jamais).
+ * Le calcul n'est pas verrouillé : deux appels concurrents sur une clé absente peuvent tous deux executer la fonction.
+ * @param <I> Type de l'objet en entré
+ * @param <O> Type de l'objet de sortie
+ */
+public class MemoizedFunction<I, O> implements FunctionThrowable<I, Try<O>> {
+
+    /**
+     * Nombre maximum de résultats mémorisés par défaut
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final FunctionThrowable<I, Try<O>> function;
+    private final BoundedCache<I, Try<O>> cache;
+    private final long failureTtlNanos;
+
+    /**
+     * @param function Fonction à mémoriser
+     * @param maximumSize Nombre maximum de résultats conservés
+     * @param failureTtl Durée de conservation des erreurs (0 : les erreurs ne sont pas conservées)
+     * @param unit Unité de la durée de conservation des erreurs
+     */
+    public MemoizedFunction(FunctionThrowable<I, O> function, int maximumSize, long failureTtl, TimeUnit unit) {
+        if (failureTtl < 0) throw new IllegalArgumentException("La durée de conservation des erreurs doit être positive! ["+ failureTtl +"]");
+        this.function = TryFactory.of(function);
+        this.cache = new BoundedCache<>(maximumSize);
+        this.failureTtlNanos = unit.toNanos(failureTtl);
+    }
+
+    @Override
+    public Try<O> applyThrows(I input) {
+        Try<O> result = cache.get(input);
+        if (result != null) return result;
+
+        result = function.apply(input);
+        if (result.isSuccess()) {
+            cache.put(input, result);
+        } else if (failureTtlNanos > 0) {
+            cache.putWithTtl(input, result, failureTtlNanos);
+        }
+        return result;
+    }
+
+    /**
+     * Supprime le résultat mémorisé pour une entrée
+     * @param input Entrée de la fonction
+     */
+    public void invalidate(I input) {
+        cache.invalidate(input);
+    }
+
+    /**
+     * Supprime tous les résultats mémorisés
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Retourne le nombre de résultats mémorisés
+     * @return
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Retourne les statistiques (valeurs trouvées, absentes, évincées) du cache
+     * @return
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
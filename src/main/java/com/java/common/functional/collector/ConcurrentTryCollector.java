@@ -0,0 +1,115 @@
+package com.java.common.functional.collector;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.impl.Success;
+import com.java.common.functional.metrics.FlightEvents;
+import com.java.common.structure.ChunkedList;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A concurrent and unordered Collector implementation processing elements as long as results are success.
+ * <br>
+ * Every thread accumulates into one shared container, and the first failure met cancels every further supplier call.
+ * The container holds one {@link ChunkedList} per accumulating thread (null values are accepted), in a map keyed by thread
+ * that the finisher merges then clears: no list outlives the collection, even on the common pool threads.
+ * The order of the successes is not preserved.
+ * Each run emits a {@link FlightEvents#collectorRun} event on Java 11+ (success count, and whether suppliers were skipped after a failure).
+ * <br>
+ * An instance holds the state of one collection and must not be reused for another call to collect.
+ * @param <E>
+ */
+public class ConcurrentTryCollector<E> implements Collector<Supplier<Try<E>>, ConcurrentTryCollector.Shards<E>, Try<List<E>>> {
+
+    private static final Set<Characteristics> CHARACTERISTICS = Collections.unmodifiableSet(
+        EnumSet.of(Characteristics.CONCURRENT, Characteristics.UNORDERED)
+    );
+
+    private final AtomicReference<Try<E>> failure = new AtomicReference<>();
+    private volatile boolean skipped;
+
+    /**
+     * Shared container of the collector: one list of successes per accumulating thread.
+     * A list is only written by its own thread.
+     * @param <E>
+     */
+    public static final class Shards<E> {
+        private final ConcurrentHashMap<Thread, ChunkedList<E>> lists = new ConcurrentHashMap<>();
+
+        private ChunkedList<E> local() {
+            Thread thread = Thread.currentThread();
+            ChunkedList<E> list = lists.get(thread);
+            return list != null ? list : lists.computeIfAbsent(thread, t -> new ChunkedList<>());
+        }
+    }
+
+    /**
+     * Check whether a failure has been met.
+     * @return
+     */
+    public boolean isCancelled() {
+        return failure.get() != null;
+    }
+
+    @Override
+    public Supplier<Shards<E>> supplier() {
+        return Shards::new;
+    }
+
+    @Override
+    public BiConsumer<Shards<E>, Supplier<Try<E>>> accumulator() {
+        return (shards, supplier) -> {
+            if (failure.get() != null) {
+                skipped = true;
+                return;
+            }
+
+            Try<E> result = supplier.get();
+            if (result.isFailure()) {
+                failure.compareAndSet(null, result);
+            } else {
+                shards.local().add(result.asSuccess().getResult());
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<Shards<E>> combiner() {
+        return (left, right) -> {
+            right.lists.forEach((thread, list) -> left.lists.merge(thread, list, ChunkedList::concat));
+            return left;
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Function<Shards<E>, Try<List<E>>> finisher() {
+        return shards -> {
+            ChunkedList<E> values = new ChunkedList<>();
+            for (ChunkedList<E> list : shards.lists.values()) {
+                values.concat(list);
+            }
+            shards.lists.clear();
+            FlightEvents.collectorRun("ConcurrentTryCollector", values.size(), skipped);
+
+            Try<E> first = failure.get();
+            if (first != null) return (Try<List<E>>) (Try<?>) first;
+            return new Success<>(values.toList());
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return CHARACTERISTICS;
+    }
+}
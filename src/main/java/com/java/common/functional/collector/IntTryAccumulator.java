@@ -0,0 +1,82 @@
+package com.java.common.functional.collector;
+
+import com.java.common.functional.IntTry;
+import com.java.common.functional.Try;
+import com.java.common.functional.impl.Failure;
+import com.java.common.functional.impl.Success;
+import com.java.common.functional.metrics.FlightEvents;
+
+import java.util.Arrays;
+
+/**
+ * Mutable container used by the IntTry collectors of {@link com.java.common.functional.factory.TryCollectorFactory}.
+ * Values are stored in a growable int[] so that no result is boxed.
+ */
+public final class IntTryAccumulator {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values = new int[DEFAULT_CAPACITY];
+    private int size;
+    private Exception failure;
+
+    /**
+     * Add the value of a success, or keep the first failure and ignore every following element.
+     * @param result
+     */
+    public void add(IntTry result) {
+        if (failure != null) return;
+        if (result.isFailure()) {
+            failure = result.asFailure().getException();
+        } else {
+            push(result.asSuccess().getResult());
+        }
+    }
+
+    /**
+     * Add the value of a success, failures are ignored.
+     * @param result
+     */
+    public void addSuccess(IntTry result) {
+        if (result.isSuccess()) push(result.asSuccess().getResult());
+    }
+
+    /**
+     * Merge two containers, the left failure wins over the right one.
+     * @param right
+     * @return
+     */
+    public IntTryAccumulator combine(IntTryAccumulator right) {
+        if (failure != null) return this;
+        if (right.failure != null) return right;
+        ensureCapacity(size + right.size);
+        System.arraycopy(right.values, 0, values, size, right.size);
+        size += right.size;
+        return this;
+    }
+
+    public int[] toArray() {
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Finish a collection: the first failure, or a success wrapping the values.
+     * The elements are evaluated before reaching the container, so the run is never reported as short-circuited.
+     * @return
+     */
+    public Try<int[]> toTry() {
+        FlightEvents.collectorRun("collectInt", size, false);
+        return failure != null ? Failure.<int[]>converted(failure) : new Success<>(toArray());
+    }
+
+    private void push(int value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length << 1));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.java.common.functional.collector;
+
+import com.java.common.functional.LongTry;
+import com.java.common.functional.Try;
+import com.java.common.functional.impl.Failure;
+import com.java.common.functional.impl.Success;
+import com.java.common.functional.metrics.FlightEvents;
+
+import java.util.Arrays;
+
+/**
+ * Mutable container used by the LongTry collectors of {@link com.java.common.functional.factory.TryCollectorFactory}.
+ * Values are stored in a growable long[] so that no result is boxed.
+ */
+public final class LongTryAccumulator {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] values = new long[DEFAULT_CAPACITY];
+    private int size;
+    private Exception failure;
+
+    /**
+     * Add the value of a success, or keep the first failure and ignore every following element.
+     * @param result
+     */
+    public void add(LongTry result) {
+        if (failure != null) return;
+        if (result.isFailure()) {
+            failure = result.asFailure().getException();
+        } else {
+            push(result.asSuccess().getResult());
+        }
+    }
+
+    /**
+     * Add the value of a success, failures are ignored.
+     * @param result
+     */
+    public void addSuccess(LongTry result) {
+        if (result.isSuccess()) push(result.asSuccess().getResult());
+    }
+
+    /**
+     * Merge two containers, the left failure wins over the right one.
+     * @param right
+     * @return
+     */
+    public LongTryAccumulator combine(LongTryAccumulator right) {
+        if (failure != null) return this;
+        if (right.failure != null) return right;
+        ensureCapacity(size + right.size);
+        System.arraycopy(right.values, 0, values, size, right.size);
+        size += right.size;
+        return this;
+    }
+
+    public long[] toArray() {
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Finish a collection: the first failure, or a success wrapping the values.
+     * The elements are evaluated before reaching the container, so the run is never reported as short-circuited.
+     * @return
+     */
+    public Try<long[]> toTry() {
+        FlightEvents.collectorRun("collectLong", size, false);
+        return failure != null ? Failure.<long[]>converted(failure) : new Success<>(toArray());
+    }
+
+    private void push(long value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length << 1));
+        }
+    }
+}
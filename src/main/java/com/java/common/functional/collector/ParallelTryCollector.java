@@ -0,0 +1,99 @@
+package com.java.common.functional.collector;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.impl.Success;
+import com.java.common.functional.metrics.FlightEvents;
+import com.java.common.structure.ChunkedList;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A Collector implementation processing elements as long as results are success, designed for parallel streams.
+ * <br>
+ * Every fork-join leaf shares a cancellation flag: as soon as one leaf gets a failure, the other leaves stop calling their suppliers.
+ * The encounter order of the successes is preserved. On failure, the result is one of the failures met, not necessarily the first
+ * in encounter order: a later failure may cancel the other leaves before an earlier one is reached.
+ * Successes are accumulated in a {@link ChunkedList}, so combining two leaves is O(1) and values are copied once by the finisher.
+ * Each run emits a {@link FlightEvents#collectorRun} event on Java 11+ (success count, and whether suppliers were skipped after a failure).
+ * <br>
+ * An instance holds the state of one collection and must not be reused for another call to collect.
+ * @param <E>
+ */
+public class ParallelTryCollector<E> implements Collector<Supplier<Try<E>>, ParallelTryCollector.Leaf<E>, Try<List<E>>> {
+
+    private volatile boolean cancelled;
+
+    /**
+     * Result container of a fork-join leaf.
+     * @param <E>
+     */
+    public static final class Leaf<E> {
+        private final ChunkedList<E> values = new ChunkedList<>();
+        private Try<E> failure;
+        private boolean skipped;
+    }
+
+    /**
+     * Check whether a failure has been met by one of the leaves.
+     * @return
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public Supplier<Leaf<E>> supplier() {
+        return Leaf::new;
+    }
+
+    @Override
+    public BiConsumer<Leaf<E>, Supplier<Try<E>>> accumulator() {
+        return (leaf, supplier) -> {
+            if (cancelled || leaf.failure != null) {
+                leaf.skipped = true;
+                return;
+            }
+
+            Try<E> result = supplier.get();
+            if (result.isFailure()) {
+                leaf.failure = result;
+                cancelled = true;
+            } else {
+                leaf.values.add(result.asSuccess().getResult());
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<Leaf<E>> combiner() {
+        return (left, right) -> {
+            Leaf<E> kept = left.failure != null || right.failure == null ? left : right;
+            kept.skipped = left.skipped || right.skipped;
+            if (left.failure == null && right.failure == null) left.values.concat(right.values);
+            return kept;
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Function<Leaf<E>, Try<List<E>>> finisher() {
+        return leaf -> {
+            FlightEvents.collectorRun("ParallelTryCollector", leaf.values.size(), leaf.skipped);
+            return leaf.failure != null
+                ? (Try<List<E>>) (Try<?>) leaf.failure
+                : new Success<>(leaf.values.toList());
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+}
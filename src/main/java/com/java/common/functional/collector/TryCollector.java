@@ -1,10 +1,9 @@
 package com.java.common.functional.collector;
 
 import com.java.common.functional.Try;
-import com.java.common.functional.enums.TryType;
-import com.java.common.functional.impl.Failure;
 import com.java.common.functional.impl.Success;
-import com.java.common.functional.impl.TryImpl;
+import com.java.common.functional.metrics.FlightEvents;
+import com.java.common.structure.ChunkedList;
 
 import java.util.*;
 import java.util.function.BiConsumer;
@@ -12,63 +11,75 @@ import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 /**
  * A Collector implementation processing elements as long as results are success
+ * <br>
+ * Successes are accumulated in a {@link ChunkedList}: the combiner links both containers in O(1),
+ * and values are copied only once, by the finisher.
+ * <br>
+ * Each run emits a {@link FlightEvents#collectorRun} event on Java 11+ (success count, and whether suppliers were skipped after a failure).
  * @param <E>
  */
-public class TryCollector<E> implements Collector<Supplier<Try<E>>, Map<TryType, LinkedList<Try<E>>>, Try<List<E>>> {
+public class TryCollector<E> implements Collector<Supplier<Try<E>>, TryCollector.Results<E>, Try<List<E>>> {
+
+    /**
+     * Mutable container of the collector: the successes met so far, or the first failure.
+     * @param <E>
+     */
+    public static final class Results<E> {
+        private final ChunkedList<E> values = new ChunkedList<>();
+        private Try<E> failure;
+        private boolean skipped;
+    }
 
     @Override
-    public Supplier<Map<TryType, LinkedList<Try<E>>>> supplier() {
-        return () -> {
-            HashMap<TryType, LinkedList<Try<E>>> map = new HashMap<>();
-            map.put(TryType.SUCCESS, new LinkedList<>());
-            map.put(TryType.FAILURE, new LinkedList<>());
-            return map;
-        };
+    public Supplier<Results<E>> supplier() {
+        return Results::new;
     }
 
     @Override
-    public BiConsumer<Map<TryType, LinkedList<Try<E>>>, Supplier<Try<E>>> accumulator() {
+    public BiConsumer<Results<E>, Supplier<Try<E>>> accumulator() {
         return (results, supplier) -> {
-            if(results.get(TryType.FAILURE).isEmpty()) {
+            if(results.failure == null) {
                 Try<E> result = supplier.get();
-                results.get(result.getType()).add(result);
+                if (result.isFailure()) {
+                    results.failure = result;
+                } else {
+                    results.values.add(result.asSuccess().getResult());
+                }
+            } else {
+                results.skipped = true;
             }
         };
     }
 
     @Override
-    public BinaryOperator<Map<TryType, LinkedList<Try<E>>>> combiner() {
+    public BinaryOperator<Results<E>> combiner() {
         return (left, right) -> {
-            if(!left.get(TryType.FAILURE).isEmpty()) {
+            if(left.failure != null) {
+                left.skipped |= right.skipped;
                 return left;
             }
 
-            if(!right.get(TryType.FAILURE).isEmpty()) {
+            if(right.failure != null) {
+                right.skipped |= left.skipped;
                 return right;
             }
 
-            left.get(TryType.SUCCESS).addAll(right.get(TryType.SUCCESS));
+            left.values.concat(right.values);
             return left;
         };
     }
 
 	@Override
 	@SuppressWarnings("unchecked")
-    public Function<Map<TryType, LinkedList<Try<E>>>, Try<List<E>>> finisher() {
+    public Function<Results<E>, Try<List<E>>> finisher() {
         return results -> {
-            if(results.get(TryType.FAILURE).isEmpty()) {
-                List<E> collect = results.get(TryType.SUCCESS).stream()
-            		.map(t -> t.asSuccess().getResult())
-            		.collect(Collectors.toList());
-                
-                return new Success<>(collect);
-            } else {
-                return (Failure<List<E>>) results.get(TryType.FAILURE).pop();
-            }
+            FlightEvents.collectorRun("TryCollector", results.values.size(), results.skipped);
+            return results.failure == null
+                ? new Success<>(results.values.toList())
+                : (Try<List<E>>) (Try<?>) results.failure;
         };
     }
 
@@ -76,4 +87,4 @@ public class TryCollector<E> implements Collector<Supplier<Try<E>>, Map<TryType,
     public Set<Characteristics> characteristics() {
         return new HashSet<>(0);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.java.common.functional.collector;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.impl.Success;
+import com.java.common.functional.metrics.FlightEvents;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A terminal operation collecting Try results as long as they are successes.
+ * Contrary to {@link TryCollector}, the traversal of the source stops at the first failure: remaining elements are never visited.
+ * Successes are gathered in an array sized from the source estimate, and the resulting list is a view on that array (no second copy).
+ * Each run emits a {@link FlightEvents#collectorRun} event on Java 11+ (success count, and whether the traversal stopped early).
+ * @param <T> Type of the source elements
+ * @param <E> Type of the Try values
+ */
+public final class TryFailFast<T, E> implements Consumer<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final Function<? super T, Try<E>> evaluator;
+    private Object[] values;
+    private int size;
+    private Try<E> failure;
+
+    private TryFailFast(Function<? super T, Try<E>> evaluator, int capacity) {
+        this.evaluator = evaluator;
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Traverse the spliterator until its end or until the first failure.
+     * @param spliterator Source of the elements
+     * @param evaluator Function computing the Try of an element
+     * @param <T>
+     * @param <E>
+     * @return The first failure, or a success wrapping the values in encounter order
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> Try<List<E>> collect(Spliterator<T> spliterator, Function<? super T, Try<E>> evaluator) {
+        long estimate = spliterator.getExactSizeIfKnown();
+        int capacity = estimate < 0 ? DEFAULT_CAPACITY : (int) Math.min(estimate, MAX_CAPACITY);
+        TryFailFast<T, E> acc = new TryFailFast<>(evaluator, capacity);
+
+        while (acc.failure == null && spliterator.tryAdvance(acc)) {
+            // stops at the first failure
+        }
+        // the remaining elements cannot be checked without advancing the source: an unsized source
+        // failing on its last element is reported as stopped early
+        FlightEvents.collectorRun("TryFailFast", acc.size, acc.failure != null && spliterator.estimateSize() != 0);
+
+        return acc.failure != null
+            ? (Try<List<E>>) (Try<?>) acc.failure
+            : new Success<>(new ArrayView<>(acc.values, acc.size));
+    }
+
+    @Override
+    public void accept(T element) {
+        Try<E> result = evaluator.apply(element);
+        if (result.isFailure()) {
+            failure = result;
+            return;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, (int) Math.min((long) size << 1, MAX_CAPACITY)));
+        }
+        values[size++] = result.asSuccess().getResult();
+    }
+
+    /**
+     * Fixed-size list backed by the first elements of an array.
+     * @param <E>
+     */
+    private static final class ArrayView<E> extends AbstractList<E> implements RandomAccess {
+
+        private final Object[] array;
+        private final int size;
+
+        private ArrayView(Object[] array, int size) {
+            this.array = array;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: "+ index +", Size: "+ size);
+            return (E) array[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E set(int index, E element) {
+            E previous = get(index);
+            array[index] = element;
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
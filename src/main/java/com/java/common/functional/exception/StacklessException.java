@@ -0,0 +1,20 @@
+package com.java.common.functional.exception;
+
+/**
+ * RuntimeException qui ne capture pas de stack trace (ni d'exception supprimée).
+ * <br>
+ * Sa création est aussi peu coûteuse que celle d'un objet classique : elle peut donc être utilisée
+ * sur les chemins où les erreurs sont fréquentes, ou bien être pré-allouée et réutilisée.
+ */
+public class StacklessException extends RuntimeException {
+
+    private static final long serialVersionUID = 4931585302478131528L;
+
+    public StacklessException(String message) {
+        this(message, null);
+    }
+
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
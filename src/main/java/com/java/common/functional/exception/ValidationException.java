@@ -0,0 +1,70 @@
+package com.java.common.functional.exception;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Erreurs rencontrées lors d'une validation par {@link com.java.common.functional.RuleSet}, accumulées dans une seule exception.
+ * <br>
+ * Chaque erreur est identifiée par le code de la règle non respectée, l'index de l'élément concerné (-1 pour la validation d'un objet seul)
+ * et l'exception éventuellement soulevée par la règle. Comme {@link StacklessException}, aucune stack trace n'est capturée.
+ */
+public class ValidationException extends StacklessException {
+
+    private static final long serialVersionUID = -2301743514712460872L;
+
+    private final String[] errorCodes;
+    private final int[] elementIndexes;
+    private final Exception[] causes;
+
+    /**
+     * @param errorCodes Codes des règles non respectées, conservés sans copie
+     * @param elementIndexes Index des éléments concernés, de même taille que errorCodes
+     * @param causes Exceptions soulevées par les règles (null si aucune), de même taille que errorCodes
+     */
+    public ValidationException(String[] errorCodes, int[] elementIndexes, Exception[] causes) {
+        super(errorCodes.length == 1 ? errorCodes[0] : Arrays.toString(errorCodes));
+        this.errorCodes = errorCodes;
+        this.elementIndexes = elementIndexes;
+        this.causes = causes;
+    }
+
+    /**
+     * Retourne le nombre d'erreurs
+     * @return
+     */
+    public int getErrorCount() {
+        return errorCodes.length;
+    }
+
+    /**
+     * Retourne les codes des règles non respectées, dans l'ordre des éléments (puis de déclaration des règles pour un même élément)
+     * @return
+     */
+    public List<String> getErrorCodes() {
+        return Collections.unmodifiableList(Arrays.asList(errorCodes));
+    }
+
+    public String getErrorCode(int index) {
+        return errorCodes[index];
+    }
+
+    /**
+     * Retourne l'index de l'élément concerné par une erreur, -1 pour la validation d'un objet seul
+     * @param index Index de l'erreur
+     * @return
+     */
+    public int getElementIndex(int index) {
+        return elementIndexes[index];
+    }
+
+    /**
+     * Retourne l'exception soulevée par la règle à l'origine d'une erreur, ou null si la règle a simplement rejeté l'objet
+     * @param index Index de l'erreur
+     * @return
+     */
+    public Exception getRuleException(int index) {
+        return causes[index];
+    }
+}
@@ -0,0 +1,54 @@
+package com.java.common.functional.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Création des executors utilisés par {@link TryRunner}.
+ * <br>
+ * Version Java 8 : pool borné de threads plateforme. Une version Java 21 (META-INF/versions/21 du jar multi-release)
+ * la remplace par un executor créant un thread virtuel par tache.
+ */
+final class TaskExecutors {
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private TaskExecutors() {
+    }
+
+    /**
+     * @return true si les taches sont executées sur des threads virtuels
+     */
+    static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Créé un executor de taches
+     * @param maxThreads Nombre maximum de threads plateforme
+     * @return
+     */
+    static ExecutorService newTaskExecutor(int maxThreads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            maxThreads, maxThreads,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory("functional-runner-"+ POOL_COUNT.incrementAndGet() +"-")
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.java.common.functional.executor;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.TryFuture;
+import com.java.common.functional.factory.TryFactory;
+import com.java.common.functional.impl.TryFutureImpl;
+import com.java.common.functional.lambda.RunnableThrowable;
+import com.java.common.structure.Chrono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Execute des lots de taches (Supplier&#60;Try&#60;O&#62;&#62; issus de {@link TryFactory#lazyOf} ou {@link RunnableThrowable}) en parallèle.
+ * <br>
+ * Sous Java 21+ chaque tache est executée sur un thread virtuel, sous Java 8 à 20 sur un pool borné de threads plateforme.
+ * L'API est identique dans les deux cas.
+ * <br>
+ * Les spans ouverts par une tache sont rattachés au span ouvert lors de sa soumission (voir {@link Chrono#span(String)}).
+ * <br><br>
+ * <b><u>Usage :</u></b><br>
+ * <code>
+ *  try (TryRunner runner = new TryRunner()) {<br>
+ *  &#32;&#32;&#32;&#32;Try&#60;List&#60;User&#62;&#62; users = runner.collectAll(ids.stream()<br>
+ *  &#32;&#32;&#32;&#32;&#32;&#32;&#32;&#32;.map(TryFactory.lazyOf(id -> loadUser(id)))<br>
+ *  &#32;&#32;&#32;&#32;&#32;&#32;&#32;&#32;.collect(Collectors.toList()));<br>
+ *  }
+ * </code>
+ */
+public class TryRunner implements AutoCloseable {
+
+    /**
+     * Nombre de threads plateforme par défaut, lorsque les threads virtuels ne sont pas disponibles
+     */
+    public static final int DEFAULT_MAX_THREADS = Runtime.getRuntime().availableProcessors() * 4;
+
+    private final ExecutorService executor;
+    private final Executor spanExecutor;
+
+    public TryRunner() {
+        this(DEFAULT_MAX_THREADS);
+    }
+
+    /**
+     * @param maxThreads Nombre maximum de threads plateforme (ignoré avec les threads virtuels)
+     */
+    public TryRunner(int maxThreads) {
+        if (maxThreads < 1) throw new IllegalArgumentException("Le nombre de threads doit être positif! ["+ maxThreads +"]");
+        this.executor = TaskExecutors.newTaskExecutor(maxThreads);
+        this.spanExecutor = Chrono.propagating(executor);
+    }
+
+    /**
+     * @return true si les taches sont executées sur des threads virtuels (Java 21+)
+     */
+    public static boolean isVirtual() {
+        return TaskExecutors.isVirtual();
+    }
+
+    /**
+     * Soumet une tache
+     * @param task Tache à executer
+     * @param <O> Type de l'objet de sortie
+     * @return Résultat asynchrone de la tache
+     */
+    public <O> TryFuture<O> submit(Supplier<Try<O>> task) {
+        try {
+            return new TryFutureImpl<>(CompletableFuture.supplyAsync(task, spanExecutor));
+        } catch (RejectedExecutionException e) {
+            return TryFutureImpl.completed(TryFactory.failure(e));
+        }
+    }
+
+    /**
+     * Soumet une tache de type Runnable
+     * @param task Tache à executer
+     * @return Résultat asynchrone de la tache, 'true' en cas de succès
+     */
+    public TryFuture<Boolean> submit(RunnableThrowable task) {
+        return submit(() -> TryFactory.run(task, Boolean.TRUE));
+    }
+
+    /**
+     * Execute toutes les taches en parallèle et attend leurs résultats
+     * @param tasks Taches à executer
+     * @param <O> Type des objets de sortie
+     * @return Résultats des taches, dans l'ordre des taches
+     */
+    public <O> List<Try<O>> invokeAll(Collection<? extends Supplier<Try<O>>> tasks) {
+        List<TryFuture<O>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<Try<O>> task : tasks) {
+            futures.add(submit(task));
+        }
+        List<Try<O>> results = new ArrayList<>(futures.size());
+        for (TryFuture<O> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Execute toutes les taches en parallèle et regroupe leurs valeurs
+     * @param tasks Taches à executer
+     * @param <O> Type des objets de sortie
+     * @return Valeurs des taches dans l'ordre des taches, ou la première erreur (dans l'ordre des taches)
+     */
+    public <O> Try<List<O>> collectAll(Collection<? extends Supplier<Try<O>>> tasks) {
+        List<TryFuture<O>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<Try<O>> task : tasks) {
+            futures.add(submit(task));
+        }
+        return TryFactory.allOf(futures).join();
+    }
+
+    /**
+     * Execute toutes les taches de type Runnable en parallèle
+     * @param tasks Taches à executer
+     * @return 'true' si toutes les taches sont en succès, sinon la première erreur (dans l'ordre des taches)
+     */
+    public Try<Boolean> runAll(Collection<? extends RunnableThrowable> tasks) {
+        List<TryFuture<Boolean>> futures = new ArrayList<>(tasks.size());
+        for (RunnableThrowable task : tasks) {
+            futures.add(submit(task));
+        }
+        return TryFactory.allOf(futures).join().mapWhen(Try::isSuccess, t -> Boolean.TRUE);
+    }
+
+    /**
+     * Arrete l'executor après l'execution des taches soumises
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // attente de la fin des taches en cours
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.java.common.functional.factory;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.impl.Failure;
+import com.java.common.functional.impl.Success;
+import com.java.common.functional.lambda.FunctionThrowable;
+import com.java.common.functional.lambda.RunnableThrowable;
+import com.java.common.functional.lambda.SupplierThrowable;
+import com.java.common.functional.metrics.CallSiteMetrics;
+import com.java.common.functional.metrics.CallSiteStats;
+import com.java.common.functional.metrics.FlightEvents;
+import com.java.common.functional.metrics.TryMetrics;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Equivalent de {@link TryFactory} dont les lambdas alimentent les compteurs d'un site d'appel nommé
+ * (succès, erreurs par classe d'exception, latence), voir {@link TryMetrics}.
+ * Les Failure créées portent le nom du site d'appel dans les événements Flight Recorder (voir {@link FlightEvents}).
+ * <br><br>
+ * <b><u>Usage :</u></b><br>
+ * <code>
+ *  private static final NamedTryFactory LOAD = TryFactory.named("db.load");<br>
+ *  ...<br>
+ *  Try&#60;User&#62; user = LOAD.run(() -> repository.load(id))<br>
+ *  # TryMetrics.snapshot("db.load") retourne les compteurs une fois TryMetrics.enable() appelé
+ * </code>
+ */
+public final class NamedTryFactory {
+
+    private final CallSiteMetrics metrics;
+
+    NamedTryFactory(CallSiteMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public String getName() {
+        return metrics.getName();
+    }
+
+    /**
+     * Retourne l'état courant des compteurs du site d'appel
+     * @return
+     */
+    public CallSiteStats stats() {
+        return metrics.stats();
+    }
+
+    /**
+     * See usage {@link TryFactory#of(FunctionThrowable)}
+     * @param function Fonction à transformer
+     * @param <I> Type de l'objet en entré
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public <I, O> FunctionThrowable<I, Try<O>> of(FunctionThrowable<I, O> function) {
+        return of(function, (e, item) -> e);
+    }
+
+    /**
+     * See usage {@link TryFactory#of(FunctionThrowable, BiFunction)}
+     * @param function Fonction à transformer
+     * @param error Fonction à deux entrées en cas d'erreur
+     * @param <I> Type de l'objet en entré
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public <I, O> FunctionThrowable<I, Try<O>> of(FunctionThrowable<I, O> function, BiFunction<Exception, I, Exception> error) {
+        String name = getName();
+        return input -> {
+            if (!TryMetrics.isEnabled()) {
+                try {
+                    return new Success<>(function.applyThrows(input));
+                } catch (Exception e) {
+                    return new Failure<>(error.apply(e, input), name);
+                }
+            }
+
+            long start = System.nanoTime();
+            try {
+                O result = function.applyThrows(input);
+                metrics.recordSuccess(System.nanoTime() - start);
+                return new Success<>(result);
+            } catch (Exception e) {
+                metrics.recordFailure(e, System.nanoTime() - start);
+                return new Failure<>(error.apply(e, input), name);
+            }
+        };
+    }
+
+    /**
+     * See usage {@link TryFactory#of(SupplierThrowable)}
+     * @param supplier Lambda à transformer
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public <O> Supplier<Try<O>> of(SupplierThrowable<O> supplier) {
+        String name = getName();
+        return () -> {
+            if (!TryMetrics.isEnabled()) {
+                try {
+                    return new Success<>(supplier.getThrows());
+                } catch (Exception e) {
+                    return new Failure<>(e, name);
+                }
+            }
+
+            long start = System.nanoTime();
+            try {
+                O result = supplier.getThrows();
+                metrics.recordSuccess(System.nanoTime() - start);
+                return new Success<>(result);
+            } catch (Exception e) {
+                metrics.recordFailure(e, System.nanoTime() - start);
+                return new Failure<>(e, name);
+            }
+        };
+    }
+
+    /**
+     * See usage {@link TryFactory#lazyOf(FunctionThrowable)}
+     * @param function Lambda à transformer
+     * @param <I> Type de l'objet en entré
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public <I, O> Function<I, Supplier<Try<O>>> lazyOf(FunctionThrowable<I, O> function) {
+        Function<I, Try<O>> of = of(function);
+        return input -> () -> of.apply(input);
+    }
+
+    /**
+     * See usage {@link TryFactory#run(SupplierThrowable)}
+     * @param supplier Lambda à executer
+     * @param <O> Type de l'objet de sortie
+     * @return Retourne le résultat de l'execution
+     */
+    public <O> Try<O> run(SupplierThrowable<O> supplier) {
+        return of(supplier).get();
+    }
+
+    /**
+     * See usage {@link TryFactory#run(RunnableThrowable, Object)}
+     * @param runnable Lambda à executer
+     * @param defaultValue Valeur par défaut en cas de succès
+     * @param <O> Type de l'objet de sortie
+     * @return Retourne le résultat de l'execution
+     */
+    public <O> Try<O> run(RunnableThrowable runnable, O defaultValue) {
+        return run(() -> {
+            runnable.runThrows();
+            return defaultValue;
+        });
+    }
+}
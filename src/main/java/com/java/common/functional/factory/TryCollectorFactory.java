@@ -1,16 +1,30 @@
 package com.java.common.functional.factory;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.java.common.functional.DoubleTry;
+import com.java.common.functional.IntTry;
+import com.java.common.functional.LongTry;
 import com.java.common.functional.Try;
+import com.java.common.functional.collector.DoubleTryAccumulator;
+import com.java.common.functional.collector.IntTryAccumulator;
+import com.java.common.functional.collector.LongTryAccumulator;
+import com.java.common.functional.collector.ConcurrentTryCollector;
+import com.java.common.functional.collector.ParallelTryCollector;
 import com.java.common.functional.collector.TryCollector;
+import com.java.common.functional.collector.TryFailFast;
 import com.java.common.functional.enums.TryType;
+import com.java.common.structure.ChunkedList;
+import com.java.common.structure.DoubleFunctionalList;
 import com.java.common.structure.FunctionalList;
+import com.java.common.structure.IntFunctionalList;
+import com.java.common.structure.LongFunctionalList;
 
 public class TryCollectorFactory {
 
@@ -19,10 +33,77 @@ public class TryCollectorFactory {
      * @param <E> Type de l'objet Try
      * @return
      */
-    public static <E> Collector<Supplier<Try<E>>, Map<TryType, LinkedList<Try<E>>>, Try<List<E>>> collect() {
+    public static <E> Collector<Supplier<Try<E>>, ?, Try<List<E>>> collect() {
         return new TryCollector<>();
     }
 
+    /**
+     * Equivalent de {@link #collect()} adapté aux flux parallèles : dès qu'une erreur apparait dans une des sous-taches fork-join,
+     * les autres sous-taches n'appellent plus leurs Supplier.
+     * <br>
+     * L'ordre des résultats est conservé. En cas d'erreur, l'erreur retournée est une des erreurs rencontrées, pas nécessairement
+     * la première dans l'ordre du flux : une erreur plus loin dans le flux peut interrompre les sous-taches avant qu'une erreur antérieure soit atteinte.
+     * <br>
+     * Un nouveau collecteur doit être créé pour chaque appel à collect.
+     * <br><br>
+     * <b><u>Usage :</u></b><br>
+     * <code>
+     *  Try&#60;List&#60;Double&#62;&#62; result = list.parallelStream()<br>
+     *  &#32;&#32;&#32;&#32;.map(TryFactory.lazyOf(i -> i / (i - 1)))<br>
+     *  &#32;&#32;&#32;&#32;.collect(TryCollectorFactory.parallelCollect())
+     * </code>
+     * @param <E> Type de l'objet Try
+     * @return
+     */
+    public static <E> Collector<Supplier<Try<E>>, ?, Try<List<E>>> parallelCollect() {
+        return new ParallelTryCollector<>();
+    }
+
+    /**
+     * See usage {@link #parallelCollect()}
+     * <br>
+     * Collecteur CONCURRENT et UNORDERED : tous les threads alimentent un conteneur partagé
+     * (une liste par thread, les valeurs null sont acceptées), l'ordre des résultats n'est pas conservé.
+     * <br>
+     * Un nouveau collecteur doit être créé pour chaque appel à collect.
+     * @param <E> Type de l'objet Try
+     * @return
+     */
+    public static <E> Collector<Supplier<Try<E>>, ?, Try<List<E>>> concurrentCollect() {
+        return new ConcurrentTryCollector<>();
+    }
+
+    /**
+     * Equivalent de {@link #collect()} qui interrompt le parcours du flux dès la première erreur : les éléments suivants ne sont jamais visités.
+     * <br>
+     * La liste retournée est de taille fixe et n'est pas recopiée.
+     * <br><br>
+     * <b><u>Usage :</u></b><br>
+     * <code>
+     *  Try&#60;List&#60;Double&#62;&#62; result = TryCollectorFactory.lazyCollectFailFast(Stream.of(1,2,3)<br>
+     *  &#32;&#32;&#32;&#32;.map(TryFactory.lazyOf(i -> i / (i - 1))))<br>
+     *  # result.isSuccess() renvera 'false', l'élément 3 n'aura pas été parcouru
+     * </code>
+     * @param stream Flux de Supplier&#60;Try&#60;E&#62;&#62;
+     * @param <E> Type de l'objet Try
+     * @return
+     */
+    public static <E> Try<List<E>> lazyCollectFailFast(Stream<? extends Supplier<Try<E>>> stream) {
+        return TryFailFast.collect(stream.spliterator(), Supplier::get);
+    }
+
+    /**
+     * See usage {@link #lazyCollectFailFast(Stream)}
+     * <br>
+     * Les Try étant calculés lors du parcours du flux (ex. <code>stream.map(TryFactory.of(fn))</code>), aucun calcul n'est effectué après la première erreur.
+     * @param stream Flux de Try&#60;E&#62;
+     * @param <E> Type de l'objet Try
+     * @return
+     */
+    public static <E> Try<List<E>> collectFailFast(Stream<Try<E>> stream) {
+        return TryFailFast.collect(stream.spliterator(), Function.identity());
+    }
+
     /**
      * Permet d'effectuer une reduction afin de récupérer la première erreur potentiellement apparue
      * See usage {@link TryFactory#lazyOf(com.java.common.functional.lambda.FunctionThrowable)}
@@ -93,13 +174,139 @@ public class TryCollectorFactory {
      */
     public static <E> Collector<Try<E>, ?, FunctionalList<E>> successOnly() {
     	return Collector.of(
-			() -> new FunctionalList<E>(),
+			() -> new ChunkedList<E>(),
 			(acc, tryValue) -> {
 				if (tryValue.isSuccess()) 
 					acc.add(tryValue.asSuccess().getResult());
 			},
-			(left, right) -> left.addAllChain(right)
+			(left, right) -> left.concat(right),
+			ChunkedList::toFunctionalList
 		);
     }
-    
+
+    /**
+     * Regroupe les valeurs de IntTry dans un tableau int[] (sans boxing) ou retourne la première erreur apparue
+     * See usage {@link TryFactory#ofInt(com.java.common.functional.lambda.IntUnaryOperatorThrowable)}
+     * @return
+     */
+    public static Collector<IntTry, IntTryAccumulator, Try<int[]>> collectInt() {
+        return Collector.of(
+            IntTryAccumulator::new,
+            IntTryAccumulator::add,
+            IntTryAccumulator::combine,
+            IntTryAccumulator::toTry
+        );
+    }
+
+    /**
+     * Permet d'effectuer une reduction afin de ne récupèrer uniquement les valeurs des IntTry n'ayant eu aucune erreur, dans un tableau int[] (sans boxing)
+     * @return
+     */
+    public static Collector<IntTry, IntTryAccumulator, int[]> successOnlyInt() {
+        return Collector.of(
+            IntTryAccumulator::new,
+            IntTryAccumulator::addSuccess,
+            IntTryAccumulator::combine,
+            IntTryAccumulator::toArray
+        );
+    }
+
+    /**
+     * Equivalent de {@link #successOnly()} pour les IntTry : les valeurs sont regroupées dans une {@link IntFunctionalList} (sans boxing)
+     * @return
+     */
+    public static Collector<IntTry, IntFunctionalList, IntFunctionalList> successOnlyIntList() {
+        return Collector.of(
+            IntFunctionalList::new,
+            (acc, tryValue) -> {
+                if (tryValue.isSuccess())
+                    acc.addChain(tryValue.asSuccess().getResult());
+            },
+            IntFunctionalList::addAllChain
+        );
+    }
+
+    /**
+     * Regroupe les valeurs de LongTry dans un tableau long[] (sans boxing) ou retourne la première erreur apparue
+     * See usage {@link TryFactory#ofLong(com.java.common.functional.lambda.LongUnaryOperatorThrowable)}
+     * @return
+     */
+    public static Collector<LongTry, LongTryAccumulator, Try<long[]>> collectLong() {
+        return Collector.of(
+            LongTryAccumulator::new,
+            LongTryAccumulator::add,
+            LongTryAccumulator::combine,
+            LongTryAccumulator::toTry
+        );
+    }
+
+    /**
+     * Permet d'effectuer une reduction afin de ne récupèrer uniquement les valeurs des LongTry n'ayant eu aucune erreur, dans un tableau long[] (sans boxing)
+     * @return
+     */
+    public static Collector<LongTry, LongTryAccumulator, long[]> successOnlyLong() {
+        return Collector.of(
+            LongTryAccumulator::new,
+            LongTryAccumulator::addSuccess,
+            LongTryAccumulator::combine,
+            LongTryAccumulator::toArray
+        );
+    }
+
+    /**
+     * Equivalent de {@link #successOnly()} pour les LongTry : les valeurs sont regroupées dans une {@link LongFunctionalList} (sans boxing)
+     * @return
+     */
+    public static Collector<LongTry, LongFunctionalList, LongFunctionalList> successOnlyLongList() {
+        return Collector.of(
+            LongFunctionalList::new,
+            (acc, tryValue) -> {
+                if (tryValue.isSuccess())
+                    acc.addChain(tryValue.asSuccess().getResult());
+            },
+            LongFunctionalList::addAllChain
+        );
+    }
+
+    /**
+     * Regroupe les valeurs de DoubleTry dans un tableau double[] (sans boxing) ou retourne la première erreur apparue
+     * See usage {@link TryFactory#ofDouble(com.java.common.functional.lambda.DoubleUnaryOperatorThrowable)}
+     * @return
+     */
+    public static Collector<DoubleTry, DoubleTryAccumulator, Try<double[]>> collectDouble() {
+        return Collector.of(
+            DoubleTryAccumulator::new,
+            DoubleTryAccumulator::add,
+            DoubleTryAccumulator::combine,
+            DoubleTryAccumulator::toTry
+        );
+    }
+
+    /**
+     * Permet d'effectuer une reduction afin de ne récupèrer uniquement les valeurs des DoubleTry n'ayant eu aucune erreur, dans un tableau double[] (sans boxing)
+     * @return
+     */
+    public static Collector<DoubleTry, DoubleTryAccumulator, double[]> successOnlyDouble() {
+        return Collector.of(
+            DoubleTryAccumulator::new,
+            DoubleTryAccumulator::addSuccess,
+            DoubleTryAccumulator::combine,
+            DoubleTryAccumulator::toArray
+        );
+    }
+
+    /**
+     * Equivalent de {@link #successOnly()} pour les DoubleTry : les valeurs sont regroupées dans une {@link DoubleFunctionalList} (sans boxing)
+     * @return
+     */
+    public static Collector<DoubleTry, DoubleFunctionalList, DoubleFunctionalList> successOnlyDoubleList() {
+        return Collector.of(
+            DoubleFunctionalList::new,
+            (acc, tryValue) -> {
+                if (tryValue.isSuccess())
+                    acc.addChain(tryValue.asSuccess().getResult());
+            },
+            DoubleFunctionalList::addAllChain
+        );
+    }
 }
@@ -1,15 +1,50 @@
 package com.java.common.functional.factory;
 
+import com.java.common.functional.DoubleTry;
+import com.java.common.functional.IntTry;
+import com.java.common.functional.LazyTry;
+import com.java.common.functional.LongTry;
 import com.java.common.functional.Try;
+import com.java.common.functional.TryFuture;
+import com.java.common.functional.cache.MemoizedFunction;
+import com.java.common.functional.exception.StacklessException;
+import com.java.common.functional.impl.DoubleFailure;
+import com.java.common.functional.impl.DoubleSuccess;
+import com.java.common.functional.impl.IntFailure;
+import com.java.common.functional.impl.IntSuccess;
+import com.java.common.functional.impl.LongFailure;
+import com.java.common.functional.impl.LongSuccess;
+import com.java.common.functional.impl.TryFutureImpl;
 import com.java.common.functional.impl.TryImpl;
 import com.java.common.functional.impl.Failure;
 import com.java.common.functional.impl.Success;
+import com.java.common.functional.lambda.DoubleSupplierThrowable;
+import com.java.common.functional.lambda.DoubleUnaryOperatorThrowable;
 import com.java.common.functional.lambda.FunctionThrowable;
+import com.java.common.functional.lambda.IntSupplierThrowable;
+import com.java.common.functional.lambda.IntUnaryOperatorThrowable;
+import com.java.common.functional.lambda.LongSupplierThrowable;
+import com.java.common.functional.lambda.LongUnaryOperatorThrowable;
 import com.java.common.functional.lambda.RunnableThrowable;
 import com.java.common.functional.lambda.SupplierThrowable;
+import com.java.common.functional.lambda.ToDoubleFunctionThrowable;
+import com.java.common.functional.lambda.ToIntFunctionThrowable;
+import com.java.common.functional.lambda.ToLongFunctionThrowable;
+import com.java.common.functional.metrics.TryMetrics;
+import com.java.common.structure.Chrono;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 
@@ -33,6 +68,28 @@ public class TryFactory {
         return new Failure<E>(e);
     }
 
+    /**
+     * Créé un objet Try de type FAILURE léger, identifié par un code d'erreur et ne contenant aucune exception.
+     * <br>
+     * Une {@link StacklessException} n'est créée qu'en cas d'appel à {@link Failure#getException()}.
+     * @param errorCode Code d'erreur de l'objet Try
+     * @param <E> Type de l'objet Try
+     * @return
+     */
+    public static <E> TryImpl<E> failureCode(String errorCode) {
+        return new Failure<E>(errorCode);
+    }
+
+    /**
+     * Créé un objet Try de type FAILURE dont l'exception ne capture aucune stack trace
+     * @param message Message de l'exception
+     * @param <E> Type de l'objet Try
+     * @return
+     */
+    public static <E> TryImpl<E> stacklessFailure(String message) {
+        return new Failure<E>(new StacklessException(message));
+    }
+
     /**
      * Créé un objet Try de type SUCCESS
      * @param value Valeur de l'objet Try
@@ -43,6 +100,17 @@ public class TryFactory {
         return new Success<>(value);
     }
 
+    /**
+     * Retourne une factory dont les lambdas alimentent les compteurs du site d'appel nommé (succès, erreurs par classe d'exception, latence).
+     * <br>
+     * Sans effet tant que {@link TryMetrics#enable()} n'a pas été appelé. La factory peut être conservée dans une constante.
+     * @param name Nom du site d'appel ("db.load" par exemple)
+     * @return
+     */
+    public static NamedTryFactory named(String name) {
+        return new NamedTryFactory(TryMetrics.callSite(name));
+    }
+
     /**
      * Transforme une lambda de type Function&#60;I,O&#62; en une Function&#60;I,Try&#60;O&#62;&#62;.
      * <br><br>
@@ -85,6 +153,52 @@ public class TryFactory {
         };
     }
 
+    /**
+     * See usage {@link #memoize(FunctionThrowable, int)}, au plus {@link MemoizedFunction#DEFAULT_MAXIMUM_SIZE} résultats sont mémorisés
+     * @param function Fonction à transformer
+     * @param <I> Type de l'objet en entré
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public static <I, O> MemoizedFunction<I, O> memoize(FunctionThrowable<I, O> function) {
+        return memoize(function, MemoizedFunction.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Equivalent de {@link #of(FunctionThrowable)} dont les résultats SUCCESS sont mémorisés dans un cache borné (éviction LRU).
+     * <br><br>
+     * <b><u>Usage :</u></b><br>
+     * <code>
+     *  MemoizedFunction&#60;String, Config&#62; load = TryFactory.memoize(key -> loadConfig(key), 1000)<br>
+     *  Try&#60;Config&#62; config = load.apply("db")<br>
+     *  # les appels suivants avec la clé "db" ne déclenchent plus loadConfig
+     * </code>
+     * @param function Fonction à transformer
+     * @param maximumSize Nombre maximum de résultats mémorisés
+     * @param <I> Type de l'objet en entré
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public static <I, O> MemoizedFunction<I, O> memoize(FunctionThrowable<I, O> function, int maximumSize) {
+        return memoize(function, maximumSize, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * See usage {@link #memoize(FunctionThrowable, int)}
+     * <br>
+     * Les résultats FAILURE sont également mémorisés pendant une durée limitée, afin de ne pas solliciter une dépendance en erreur à chaque appel.
+     * @param function Fonction à transformer
+     * @param maximumSize Nombre maximum de résultats mémorisés
+     * @param failureTtl Durée de mémorisation des erreurs (0 : les erreurs ne sont pas mémorisées)
+     * @param unit Unité de la durée de mémorisation des erreurs
+     * @param <I> Type de l'objet en entré
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public static <I, O> MemoizedFunction<I, O> memoize(FunctionThrowable<I, O> function, int maximumSize, long failureTtl, TimeUnit unit) {
+        return new MemoizedFunction<>(function, maximumSize, failureTtl, unit);
+    }
+
     /**
      * Transforme une lambda de type Supplier&#60;O&#62; en Supplier&#60;Try&#60;O&#62;&#62;.
      * <br><br>
@@ -124,6 +238,24 @@ public class TryFactory {
         };
     }
 
+    /**
+     * Créé une valeur paresseuse : la lambda n'est executée qu'au premier appel de {@link LazyTry#get()}, et au plus une fois en cas de succès.
+     * <br><br>
+     * <b><u>Usage :</u></b><br>
+     * <code>
+     *  LazyTry&#60;Config&#62; config = TryFactory.lazy(() -> loadConfig())<br>
+     *  config.get()<br>
+     *  config.get()<br>
+     *  # loadConfig() n'aura été executé qu'une seule fois
+     * </code>
+     * @param supplier Lambda à executer
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public static <O> LazyTry<O> lazy(SupplierThrowable<O> supplier) {
+        return new LazyTry<>(supplier);
+    }
+
     /**
      * Transforme une lambda de type Function&#60;I,O&#62; en une Function&#60;I, Supplier&#60;Try&#60;O&#62;&#62;&#62;.<br>
      * Contrairement à la méthode {@link #of(FunctionThrowable)} qui est indépendante, celle-ci doit être utilisé avec la fonction {@link java.util.stream.Stream#collect(Collector)}.<br>
@@ -216,4 +348,297 @@ public class TryFactory {
             return defaultValue;
         });
     }
+
+    /**
+     * Execute de manière asynchrone une lambda de type Supplier&#60;O&#62; pouvant provoquer une erreure.
+     * <br><br>
+     * <b><u>Usage :</u></b><br>
+     * <code>
+     *  TryFuture&#60;Integer&#62; user = TryFactory.async(() -> loadUser(id), executor)<br>
+     *  TryFuture&#60;Integer&#62; rights = TryFactory.async(() -> loadRights(id), executor)<br>
+     *  Try&#60;List&#60;Integer&#62;&#62; result = TryFactory.allOf(Arrays.asList(user, rights)).join()<br>
+     *  # les deux appels sont executés en parallèle
+     * </code>
+     * <br>
+     * Les spans ouverts par la lambda sont rattachés au span courant (voir {@link Chrono#span(String)}).
+     *
+     * @param supplier Lambda à executer
+     * @param executor Executor sur lequel la lambda est executée
+     * @param <O> Type de l'objet de sortie
+     * @return Retourne le résultat asynchrone de l'execution
+     */
+    public static <O> TryFuture<O> async(SupplierThrowable<O> supplier, Executor executor) {
+        try {
+            return new TryFutureImpl<>(CompletableFuture.supplyAsync(() -> run(supplier), Chrono.propagating(executor)));
+        } catch (RejectedExecutionException e) {
+            return TryFutureImpl.completed(failure(e));
+        }
+    }
+
+    /**
+     * Execute de manière asynchrone une lambda de type Runnable pouvant provoquer une erreure.
+     * See usage {@link #async(SupplierThrowable, Executor)}
+     * @param runnable Lambda à executer
+     * @param defaultValue Valeur par défaut en cas de succès
+     * @param executor Executor sur lequel la lambda est executée
+     * @param <O> Type de l'objet de sortie
+     * @return Retourne le résultat asynchrone de l'execution
+     */
+    public static <O> TryFuture<O> async(RunnableThrowable runnable, O defaultValue, Executor executor) {
+        return async(() -> {
+            runnable.runThrows();
+            return defaultValue;
+        }, executor);
+    }
+
+    /**
+     * Transforme un CompletionStage (CompletableFuture par exemple) en TryFuture, une fin en erreur devient une Failure
+     * @param stage Execution asynchrone
+     * @param <O> Type de l'objet de sortie
+     * @return
+     */
+    public static <O> TryFuture<O> fromFuture(CompletionStage<O> stage) {
+        return new TryFutureImpl<>(stage.toCompletableFuture().thenApply(TryFactory::<O>success));
+    }
+
+    /**
+     * Attend la fin de plusieurs executions asynchrones indépendantes et regroupe leurs valeurs.
+     * <br>
+     * Si une des executions est en erreur, la première erreur (dans l'ordre de la liste) est retournée.
+     * @param futures Executions asynchrones
+     * @param <O> Type des objets de sortie
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <O> TryFuture<List<O>> allOf(List<? extends TryFuture<O>> futures) {
+        CompletableFuture<Try<O>>[] all = futures.stream()
+            .map(TryFuture::toCompletableFuture)
+            .toArray(CompletableFuture[]::new);
+
+        return new TryFutureImpl<>(CompletableFuture.allOf(all).thenApply(done -> {
+            List<O> values = new ArrayList<>(all.length);
+            for (CompletableFuture<Try<O>> future : all) {
+                Try<O> result = future.join();
+                if (result.isFailure()) return (Try<List<O>>) (Try<?>) result;
+                values.add(result.asSuccess().getResult());
+            }
+            return success(values);
+        }));
+    }
+
+    /**
+     * Créé un objet IntTry de type SUCCESS
+     * @param value Valeur de l'objet IntTry
+     * @return
+     */
+    public static IntTry intSuccess(int value) {
+        return new IntSuccess(value);
+    }
+
+    /**
+     * Créé un objet IntTry de type FAILURE
+     * @param e Exception de l'objet IntTry
+     * @return
+     */
+    public static IntTry intFailure(Exception e) {
+        return new IntFailure(e);
+    }
+
+    /**
+     * Transforme une lambda de type IntUnaryOperator en une IntFunction&#60;IntTry&#62;, la valeur n'est jamais boxée.
+     * <br><br>
+     * <b><u>Usage :</u></b><br>
+     * <code>
+     *  int[] result = IntStream.of(1,2,3)<br>
+     *  &#32;&#32;&#32;&#32;.mapToObj(TryFactory.ofInt(i -> i / (i - 1)))<br>
+     *  &#32;&#32;&#32;&#32;.collect(TryCollectorFactory.successOnlyInt())<br>
+     *  # result contiendra deux elements, la division par zero étant ignorée
+     * </code>
+     * @param function Fonction à transformer
+     * @return
+     */
+    public static IntFunction<IntTry> ofInt(IntUnaryOperatorThrowable function) {
+        return input -> {
+            try {
+                return new IntSuccess(function.applyAsIntThrows(input));
+            } catch (Exception e) {
+                return new IntFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Transforme une lambda de type ToIntFunction&#60;I&#62; en une Function&#60;I,IntTry&#62;, la valeur n'est jamais boxée.
+     * See usage {@link #ofInt(IntUnaryOperatorThrowable)}
+     * @param function Fonction à transformer
+     * @param <I> Type de l'objet en entré
+     * @return
+     */
+    public static <I> Function<I, IntTry> ofToInt(ToIntFunctionThrowable<I> function) {
+        return input -> {
+            try {
+                return new IntSuccess(function.applyAsIntThrows(input));
+            } catch (Exception e) {
+                return new IntFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Execute une lambda de type IntSupplier pouvant provoquer une erreure.
+     * See usage {@link #run(SupplierThrowable)}
+     * @param supplier Lambda à executer
+     * @return Retourne le résultat de l'execution
+     */
+    public static IntTry runInt(IntSupplierThrowable supplier) {
+        try {
+            return new IntSuccess(supplier.getAsIntThrows());
+        } catch (Exception e) {
+            return new IntFailure(e);
+        }
+    }
+
+    /**
+     * Créé un objet LongTry de type SUCCESS
+     * @param value Valeur de l'objet LongTry
+     * @return
+     */
+    public static LongTry longSuccess(long value) {
+        return new LongSuccess(value);
+    }
+
+    /**
+     * Créé un objet LongTry de type FAILURE
+     * @param e Exception de l'objet LongTry
+     * @return
+     */
+    public static LongTry longFailure(Exception e) {
+        return new LongFailure(e);
+    }
+
+    /**
+     * Transforme une lambda de type LongUnaryOperator en une LongFunction&#60;LongTry&#62;, la valeur n'est jamais boxée.
+     * <br><br>
+     * <b><u>Usage :</u></b><br>
+     * <code>
+     *  long[] result = LongStream.of(1,2,3)<br>
+     *  &#32;&#32;&#32;&#32;.mapToObj(TryFactory.ofLong(i -> i / (i - 1)))<br>
+     *  &#32;&#32;&#32;&#32;.collect(TryCollectorFactory.successOnlyLong())<br>
+     *  # result contiendra deux elements, la division par zero étant ignorée
+     * </code>
+     * @param function Fonction à transformer
+     * @return
+     */
+    public static LongFunction<LongTry> ofLong(LongUnaryOperatorThrowable function) {
+        return input -> {
+            try {
+                return new LongSuccess(function.applyAsLongThrows(input));
+            } catch (Exception e) {
+                return new LongFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Transforme une lambda de type ToLongFunction&#60;I&#62; en une Function&#60;I,LongTry&#62;, la valeur n'est jamais boxée.
+     * See usage {@link #ofLong(LongUnaryOperatorThrowable)}
+     * @param function Fonction à transformer
+     * @param <I> Type de l'objet en entré
+     * @return
+     */
+    public static <I> Function<I, LongTry> ofToLong(ToLongFunctionThrowable<I> function) {
+        return input -> {
+            try {
+                return new LongSuccess(function.applyAsLongThrows(input));
+            } catch (Exception e) {
+                return new LongFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Execute une lambda de type LongSupplier pouvant provoquer une erreure.
+     * See usage {@link #run(SupplierThrowable)}
+     * @param supplier Lambda à executer
+     * @return Retourne le résultat de l'execution
+     */
+    public static LongTry runLong(LongSupplierThrowable supplier) {
+        try {
+            return new LongSuccess(supplier.getAsLongThrows());
+        } catch (Exception e) {
+            return new LongFailure(e);
+        }
+    }
+
+    /**
+     * Créé un objet DoubleTry de type SUCCESS
+     * @param value Valeur de l'objet DoubleTry
+     * @return
+     */
+    public static DoubleTry doubleSuccess(double value) {
+        return new DoubleSuccess(value);
+    }
+
+    /**
+     * Créé un objet DoubleTry de type FAILURE
+     * @param e Exception de l'objet DoubleTry
+     * @return
+     */
+    public static DoubleTry doubleFailure(Exception e) {
+        return new DoubleFailure(e);
+    }
+
+    /**
+     * Transforme une lambda de type DoubleUnaryOperator en une DoubleFunction&#60;DoubleTry&#62;, la valeur n'est jamais boxée.
+     * <br><br>
+     * <b><u>Usage :</u></b><br>
+     * <code>
+     *  double[] result = DoubleStream.of(1,2,3)<br>
+     *  &#32;&#32;&#32;&#32;.mapToObj(TryFactory.ofDouble(i -> i / (i - 1)))<br>
+     *  &#32;&#32;&#32;&#32;.collect(TryCollectorFactory.successOnlyDouble())<br>
+     *  # result contiendra deux elements, la division par zero étant ignorée
+     * </code>
+     * @param function Fonction à transformer
+     * @return
+     */
+    public static DoubleFunction<DoubleTry> ofDouble(DoubleUnaryOperatorThrowable function) {
+        return input -> {
+            try {
+                return new DoubleSuccess(function.applyAsDoubleThrows(input));
+            } catch (Exception e) {
+                return new DoubleFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Transforme une lambda de type ToDoubleFunction&#60;I&#62; en une Function&#60;I,DoubleTry&#62;, la valeur n'est jamais boxée.
+     * See usage {@link #ofDouble(DoubleUnaryOperatorThrowable)}
+     * @param function Fonction à transformer
+     * @param <I> Type de l'objet en entré
+     * @return
+     */
+    public static <I> Function<I, DoubleTry> ofToDouble(ToDoubleFunctionThrowable<I> function) {
+        return input -> {
+            try {
+                return new DoubleSuccess(function.applyAsDoubleThrows(input));
+            } catch (Exception e) {
+                return new DoubleFailure(e);
+            }
+        };
+    }
+
+    /**
+     * Execute une lambda de type DoubleSupplier pouvant provoquer une erreure.
+     * See usage {@link #run(SupplierThrowable)}
+     * @param supplier Lambda à executer
+     * @return Retourne le résultat de l'execution
+     */
+    public static DoubleTry runDouble(DoubleSupplierThrowable supplier) {
+        try {
+            return new DoubleSuccess(supplier.getAsDoubleThrows());
+        } catch (Exception e) {
+            return new DoubleFailure(e);
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package com.java.common.functional.impl;
+
+import com.java.common.functional.enums.TryType;
+import com.java.common.functional.metrics.FlightEvents;
+
+import lombok.Getter;
+
+/**
+ * An implementation of DoubleTry representing a failure.
+ */
+public final class DoubleFailure extends DoubleTryImpl {
+
+    @Getter private final Exception exception;
+
+    /**
+     * Wrap the given exception in an instance of DoubleFailure.
+     * @param exception
+     */
+    public DoubleFailure(Exception exception) {
+        assert exception != null;
+        this.exception = exception;
+        FlightEvents.failure(exception.getClass(), null, null);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public TryType getType() {
+        return TryType.FAILURE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        return exception.equals(((DoubleFailure) o).exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return exception.hashCode();
+    }
+}
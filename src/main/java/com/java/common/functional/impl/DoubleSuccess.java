@@ -0,0 +1,42 @@
+package com.java.common.functional.impl;
+
+import com.java.common.functional.enums.TryType;
+
+import lombok.Getter;
+
+/**
+ * An implementation of DoubleTry representing a success.
+ */
+public final class DoubleSuccess extends DoubleTryImpl {
+
+    @Getter private final double result;
+
+    /**
+     * Wrap the given value in an instance of DoubleSuccess.
+     * @param result
+     */
+    public DoubleSuccess(double result) {
+        this.result = result;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public TryType getType() {
+        return TryType.SUCCESS;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+
+        return Double.compare(result, ((DoubleSuccess) that).result) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(result);
+    }
+}
@@ -0,0 +1,109 @@
+package com.java.common.functional.impl;
+
+import com.java.common.functional.DoubleTry;
+import com.java.common.functional.Try;
+import com.java.common.functional.enums.TryType;
+import com.java.common.functional.lambda.DoubleFunctionThrowable;
+import com.java.common.functional.lambda.DoubleUnaryOperatorThrowable;
+
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Base implementation of {@link DoubleTry}.
+ */
+public abstract class DoubleTryImpl implements DoubleTry {
+
+    @Override
+    public boolean isSuccess() {
+        return getType() == TryType.SUCCESS;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return getType() == TryType.FAILURE;
+    }
+
+    @Override
+    public DoubleSuccess asSuccess() {
+        return (DoubleSuccess) this;
+    }
+
+    @Override
+    public DoubleFailure asFailure() {
+        return (DoubleFailure) this;
+    }
+
+    @Override
+    public OptionalDouble toOption() {
+        return isSuccess() ? OptionalDouble.of(asSuccess().getResult()) : OptionalDouble.empty();
+    }
+
+    @Override
+    public double getOrElse(double defaultValue) {
+        return isSuccess() ? asSuccess().getResult() : defaultValue;
+    }
+
+    @Override
+    public double getOrThrow() throws Exception {
+        if (isFailure()) throw asFailure().getException();
+        return asSuccess().getResult();
+    }
+
+    @Override
+    public <ET extends Throwable> double getOrThrow(final Function<Exception, ET> transformer) throws ET {
+        if (isFailure()) throw transformer.apply(asFailure().getException());
+        return asSuccess().getResult();
+    }
+
+    @Override
+    public void ifPresent(DoubleConsumer consumer) {
+        if (isSuccess()) consumer.accept(asSuccess().getResult());
+    }
+
+    @Override
+    public DoubleTry peekIfPresent(DoubleConsumer consumer) {
+        ifPresent(consumer);
+        return this;
+    }
+
+    @Override
+    public void ifAbsent(Consumer<Exception> consumer) {
+        if (isFailure()) consumer.accept(asFailure().getException());
+    }
+
+    @Override
+    public DoubleTry peekIfAbsent(Consumer<Exception> consumer) {
+        ifAbsent(consumer);
+        return this;
+    }
+
+    @Override
+    public DoubleTry map(DoubleUnaryOperatorThrowable mapper) {
+        if (isFailure()) return this;
+        try {
+            return new DoubleSuccess(mapper.applyAsDoubleThrows(asSuccess().getResult()));
+        } catch (Exception e) {
+            return new DoubleFailure(e);
+        }
+    }
+
+    @Override
+    public <O> Try<O> mapToObj(DoubleFunctionThrowable<O> mapper) {
+        if (isFailure()) return Failure.converted(asFailure().getException());
+        try {
+            return new Success<>(mapper.applyThrows(asSuccess().getResult()));
+        } catch (Exception e) {
+            return new Failure<>(e);
+        }
+    }
+
+    @Override
+    public Try<Double> boxed() {
+        return isSuccess()
+            ? new Success<>(asSuccess().getResult())
+            : Failure.converted(asFailure().getException());
+    }
+}
@@ -1,24 +1,88 @@
 package com.java.common.functional.impl;
 
 import com.java.common.functional.enums.TryType;
+import com.java.common.functional.exception.StacklessException;
+import com.java.common.functional.metrics.FlightEvents;
 
 import lombok.Getter;
 
 /**
  * An implementation of Try representing a failure.
+ * <br>
+ * A failure either wraps an exception, or only carries an error code: in that case no exception is created
+ * until {@link #getException()} is called, and the materialized exception is a {@link StacklessException}.
  * @param <E>
  */
 public final class Failure<E> extends TryImpl<E> {
 
-    @Getter private final Exception exception;
+    private volatile Exception exception;
+    @Getter private final String errorCode;
 
     /**
      * Wrap the given exception in an instance of Failure.
      * @param exception
      */
     public Failure(Exception exception) {
+        this(exception, null);
+    }
+
+    /**
+     * Wrap the given exception in an instance of Failure, created by the given named call site.
+     * @param exception
+     * @param callSite Name of the call site, only reported to the flight recorder (see {@link FlightEvents})
+     */
+    public Failure(Exception exception, String callSite) {
+        this(exception, callSite, true);
+    }
+
+    private Failure(Exception exception, String callSite, boolean report) {
         assert exception != null;
         this.exception = exception;
+        this.errorCode = null;
+        if (report) FlightEvents.failure(exception.getClass(), null, callSite);
+    }
+
+    /**
+     * Wrap an exception already carried by another failure (e.g. a primitive failure being boxed).
+     * The failure has already been reported to the flight recorder, so no new event is emitted.
+     * @param exception
+     * @param <E>
+     * @return
+     */
+    public static <E> Failure<E> converted(Exception exception) {
+        return new Failure<>(exception, null, false);
+    }
+
+    /**
+     * Create a lightweight failure identified by an error code, without any exception.
+     * @param errorCode
+     */
+    public Failure(String errorCode) {
+        assert errorCode != null;
+        this.exception = null;
+        this.errorCode = errorCode;
+        FlightEvents.failure(StacklessException.class, errorCode, null);
+    }
+
+    /**
+     * Return the wrapped exception, a stackless exception is created on first call for error code failures.
+     * @return
+     */
+    public Exception getException() {
+        Exception e = exception;
+        if (e == null) {
+            e = new StacklessException(errorCode);
+            exception = e;
+        }
+        return e;
+    }
+
+    /**
+     * Check whether this failure only carries an error code.
+     * @return
+     */
+    public boolean isErrorCode() {
+        return errorCode != null;
     }
 
     /**
@@ -36,6 +100,7 @@ public final class Failure<E> extends TryImpl<E> {
 
         Failure<?> failure = (Failure<?>) o;
 
+        if (isErrorCode() || failure.isErrorCode()) return errorCode != null && errorCode.equals(failure.errorCode);
         if (!exception.equals(failure.exception)) return false;
 
         return true;
@@ -43,6 +108,6 @@ public final class Failure<E> extends TryImpl<E> {
 
     @Override
     public int hashCode() {
-        return exception.hashCode();
+        return isErrorCode() ? errorCode.hashCode() : exception.hashCode();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.java.common.functional.impl;
+
+import com.java.common.functional.enums.TryType;
+
+import lombok.Getter;
+
+/**
+ * An implementation of IntTry representing a success.
+ */
+public final class IntSuccess extends IntTryImpl {
+
+    @Getter private final int result;
+
+    /**
+     * Wrap the given value in an instance of IntSuccess.
+     * @param result
+     */
+    public IntSuccess(int result) {
+        this.result = result;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public TryType getType() {
+        return TryType.SUCCESS;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+
+        return result == ((IntSuccess) that).result;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(result);
+    }
+}
@@ -0,0 +1,109 @@
+package com.java.common.functional.impl;
+
+import com.java.common.functional.IntTry;
+import com.java.common.functional.Try;
+import com.java.common.functional.enums.TryType;
+import com.java.common.functional.lambda.IntFunctionThrowable;
+import com.java.common.functional.lambda.IntUnaryOperatorThrowable;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Base implementation of {@link IntTry}.
+ */
+public abstract class IntTryImpl implements IntTry {
+
+    @Override
+    public boolean isSuccess() {
+        return getType() == TryType.SUCCESS;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return getType() == TryType.FAILURE;
+    }
+
+    @Override
+    public IntSuccess asSuccess() {
+        return (IntSuccess) this;
+    }
+
+    @Override
+    public IntFailure asFailure() {
+        return (IntFailure) this;
+    }
+
+    @Override
+    public OptionalInt toOption() {
+        return isSuccess() ? OptionalInt.of(asSuccess().getResult()) : OptionalInt.empty();
+    }
+
+    @Override
+    public int getOrElse(int defaultValue) {
+        return isSuccess() ? asSuccess().getResult() : defaultValue;
+    }
+
+    @Override
+    public int getOrThrow() throws Exception {
+        if (isFailure()) throw asFailure().getException();
+        return asSuccess().getResult();
+    }
+
+    @Override
+    public <ET extends Throwable> int getOrThrow(final Function<Exception, ET> transformer) throws ET {
+        if (isFailure()) throw transformer.apply(asFailure().getException());
+        return asSuccess().getResult();
+    }
+
+    @Override
+    public void ifPresent(IntConsumer consumer) {
+        if (isSuccess()) consumer.accept(asSuccess().getResult());
+    }
+
+    @Override
+    public IntTry peekIfPresent(IntConsumer consumer) {
+        ifPresent(consumer);
+        return this;
+    }
+
+    @Override
+    public void ifAbsent(Consumer<Exception> consumer) {
+        if (isFailure()) consumer.accept(asFailure().getException());
+    }
+
+    @Override
+    public IntTry peekIfAbsent(Consumer<Exception> consumer) {
+        ifAbsent(consumer);
+        return this;
+    }
+
+    @Override
+    public IntTry map(IntUnaryOperatorThrowable mapper) {
+        if (isFailure()) return this;
+        try {
+            return new IntSuccess(mapper.applyAsIntThrows(asSuccess().getResult()));
+        } catch (Exception e) {
+            return new IntFailure(e);
+        }
+    }
+
+    @Override
+    public <O> Try<O> mapToObj(IntFunctionThrowable<O> mapper) {
+        if (isFailure()) return Failure.converted(asFailure().getException());
+        try {
+            return new Success<>(mapper.applyThrows(asSuccess().getResult()));
+        } catch (Exception e) {
+            return new Failure<>(e);
+        }
+    }
+
+    @Override
+    public Try<Integer> boxed() {
+        return isSuccess()
+            ? new Success<>(asSuccess().getResult())
+            : Failure.converted(asFailure().getException());
+    }
+}
@@ -0,0 +1,42 @@
+package com.java.common.functional.impl;
+
+import com.java.common.functional.enums.TryType;
+
+import lombok.Getter;
+
+/**
+ * An implementation of LongTry representing a success.
+ */
+public final class LongSuccess extends LongTryImpl {
+
+    @Getter private final long result;
+
+    /**
+     * Wrap the given value in an instance of LongSuccess.
+     * @param result
+     */
+    public LongSuccess(long result) {
+        this.result = result;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public TryType getType() {
+        return TryType.SUCCESS;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+
+        return result == ((LongSuccess) that).result;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(result);
+    }
+}
@@ -0,0 +1,109 @@
+package com.java.common.functional.impl;
+
+import com.java.common.functional.LongTry;
+import com.java.common.functional.Try;
+import com.java.common.functional.enums.TryType;
+import com.java.common.functional.lambda.LongFunctionThrowable;
+import com.java.common.functional.lambda.LongUnaryOperatorThrowable;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Base implementation of {@link LongTry}.
+ */
+public abstract class LongTryImpl implements LongTry {
+
+    @Override
+    public boolean isSuccess() {
+        return getType() == TryType.SUCCESS;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return getType() == TryType.FAILURE;
+    }
+
+    @Override
+    public LongSuccess asSuccess() {
+        return (LongSuccess) this;
+    }
+
+    @Override
+    public LongFailure asFailure() {
+        return (LongFailure) this;
+    }
+
+    @Override
+    public OptionalLong toOption() {
+        return isSuccess() ? OptionalLong.of(asSuccess().getResult()) : OptionalLong.empty();
+    }
+
+    @Override
+    public long getOrElse(long defaultValue) {
+        return isSuccess() ? asSuccess().getResult() : defaultValue;
+    }
+
+    @Override
+    public long getOrThrow() throws Exception {
+        if (isFailure()) throw asFailure().getException();
+        return asSuccess().getResult();
+    }
+
+    @Override
+    public <ET extends Throwable> long getOrThrow(final Function<Exception, ET> transformer) throws ET {
+        if (isFailure()) throw transformer.apply(asFailure().getException());
+        return asSuccess().getResult();
+    }
+
+    @Override
+    public void ifPresent(LongConsumer consumer) {
+        if (isSuccess()) consumer.accept(asSuccess().getResult());
+    }
+
+    @Override
+    public LongTry peekIfPresent(LongConsumer consumer) {
+        ifPresent(consumer);
+        return this;
+    }
+
+    @Override
+    public void ifAbsent(Consumer<Exception> consumer) {
+        if (isFailure()) consumer.accept(asFailure().getException());
+    }
+
+    @Override
+    public LongTry peekIfAbsent(Consumer<Exception> consumer) {
+        ifAbsent(consumer);
+        return this;
+    }
+
+    @Override
+    public LongTry map(LongUnaryOperatorThrowable mapper) {
+        if (isFailure()) return this;
+        try {
+            return new LongSuccess(mapper.applyAsLongThrows(asSuccess().getResult()));
+        } catch (Exception e) {
+            return new LongFailure(e);
+        }
+    }
+
+    @Override
+    public <O> Try<O> mapToObj(LongFunctionThrowable<O> mapper) {
+        if (isFailure()) return Failure.converted(asFailure().getException());
+        try {
+            return new Success<>(mapper.applyThrows(asSuccess().getResult()));
+        } catch (Exception e) {
+            return new Failure<>(e);
+        }
+    }
+
+    @Override
+    public Try<Long> boxed() {
+        return isSuccess()
+            ? new Success<>(asSuccess().getResult())
+            : Failure.converted(asFailure().getException());
+    }
+}
@@ -0,0 +1,145 @@
+package com.java.common.functional.impl;
+
+import com.java.common.functional.Try;
+import com.java.common.functional.TryFuture;
+import com.java.common.functional.factory.TryFactory;
+import com.java.common.functional.lambda.FunctionThrowable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An implementation of TryFuture backed by a CompletableFuture which never completes exceptionally.
+ * @param <E>
+ */
+public final class TryFutureImpl<E> implements TryFuture<E> {
+
+    private final CompletableFuture<Try<E>> future;
+
+    /**
+     * Wrap the given future, an exceptional completion is converted into a failure.
+     * @param future
+     */
+    public TryFutureImpl(CompletableFuture<Try<E>> future) {
+        this.future = future.handle((result, throwable) -> throwable == null ? result : failure(throwable));
+    }
+
+    /**
+     * Create an instance already completed with the given result.
+     * @param result
+     * @param <E>
+     * @return
+     */
+    public static <E> TryFutureImpl<E> completed(Try<E> result) {
+        return new TryFutureImpl<>(CompletableFuture.completedFuture(result));
+    }
+
+    @Override
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    @Override
+    public <O> TryFuture<O> map(FunctionThrowable<E, O> transformer) {
+        return new TryFutureImpl<>(future.thenApply(result -> result.isFailure()
+            ? cast(result)
+            : TryFactory.of(transformer).apply(result.asSuccess().getResult())));
+    }
+
+    @Override
+    public <O> TryFuture<O> flatMap(FunctionThrowable<E, TryFuture<O>> transformer) {
+        return new TryFutureImpl<>(future.thenCompose(result -> {
+            if (result.isFailure()) return CompletableFuture.completedFuture(cast(result));
+
+            Try<TryFuture<O>> next = TryFactory.of(transformer).apply(result.asSuccess().getResult());
+            return next.isFailure()
+                ? CompletableFuture.completedFuture(cast(next))
+                : next.asSuccess().getResult().toCompletableFuture();
+        }));
+    }
+
+    @Override
+    public TryFuture<E> when(Predicate<Try<E>> predicate, FunctionThrowable<Try<E>, E> transformer) {
+        return new TryFutureImpl<>(future.thenApply(result -> result.when(predicate, transformer)));
+    }
+
+    @Override
+    public TryFuture<E> flatWhen(Predicate<Try<E>> predicate, FunctionThrowable<Try<E>, Try<E>> transformer) {
+        return new TryFutureImpl<>(future.thenApply(result -> result.flatWhen(predicate, transformer)));
+    }
+
+    @Override
+    public <O> TryFuture<O> mapWhen(Predicate<Try<E>> predicate, FunctionThrowable<Try<E>, O> transformer) {
+        return new TryFutureImpl<>(future.thenApply(result -> result.mapWhen(predicate, transformer)));
+    }
+
+    @Override
+    public <O> TryFuture<O> mapFlatWhen(Predicate<Try<E>> predicate, FunctionThrowable<Try<E>, Try<O>> transformer) {
+        return new TryFutureImpl<>(future.thenApply(result -> result.mapFlatWhen(predicate, transformer)));
+    }
+
+    @Override
+    public TryFuture<E> peek(Consumer<Try<E>> consumer) {
+        return new TryFutureImpl<>(future.thenApply(result -> {
+            consumer.accept(result);
+            return result;
+        }));
+    }
+
+    @Override
+    public Try<E> join() {
+        return future.join();
+    }
+
+    @Override
+    public Try<E> join(long timeout, TimeUnit unit) {
+        try {
+            return future.get(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            return failure(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Try<E>> toCompletableFuture() {
+        return future.thenApply(Function.identity());
+    }
+
+    @Override
+    public CompletableFuture<E> toValueFuture() {
+        CompletableFuture<E> result = new CompletableFuture<>();
+        future.thenAccept(t -> {
+            if (t.isSuccess()) result.complete(t.asSuccess().getResult());
+            else result.completeExceptionally(t.asFailure().getException());
+        });
+        return result;
+    }
+
+    /**
+     * Convert a throwable met by a CompletableFuture into a failure, unwrapping CompletionException and ExecutionException.
+     * @param throwable
+     * @param <E>
+     * @return
+     */
+    private static <E> Try<E> failure(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return new Failure<>(cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O> Try<O> cast(Try<?> failure) {
+        return (Try<O>) failure;
+    }
+}
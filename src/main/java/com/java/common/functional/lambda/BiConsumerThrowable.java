@@ -10,9 +10,7 @@ public interface BiConsumerThrowable<T,U> extends BiConsumer<T,U> {
 		try {
 			acceptTrows(t,u);
 		} catch (Exception e) {
-			RuntimeException re = new RuntimeException(e.getMessage());
-			re.initCause(e);
-			throw re;
+			throw ThrowableWrapper.wrap(e);
 		}
 	}
 	
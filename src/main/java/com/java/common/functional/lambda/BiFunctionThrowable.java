@@ -10,9 +10,7 @@ public interface BiFunctionThrowable<T,U,R> extends BiFunction<T, U, R> {
 		try {
 			return applyThrows(t, u);
 		} catch (Exception e) {
-			RuntimeException re = new RuntimeException(e.getMessage());
-			re.initCause(e);
-			throw re;
+			throw ThrowableWrapper.wrap(e);
 		}
 	}
 	
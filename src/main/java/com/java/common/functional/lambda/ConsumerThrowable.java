@@ -10,9 +10,7 @@ public interface ConsumerThrowable<T> extends Consumer<T>{
 		try {
 			acceptTrows(t);
 		} catch (Exception e) {
-			RuntimeException re = new RuntimeException(e.getMessage());
-			re.initCause(e);
-			throw re;
+			throw ThrowableWrapper.wrap(e);
 		}
 	}
 	
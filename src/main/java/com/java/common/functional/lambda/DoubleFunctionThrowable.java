@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.DoubleFunction;
+
+@FunctionalInterface
+public interface DoubleFunctionThrowable<R> extends DoubleFunction<R> {
+
+    @Override
+    default R apply(final double value) {
+        try {
+            return applyThrows(value);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    R applyThrows(final double value) throws Exception;
+}
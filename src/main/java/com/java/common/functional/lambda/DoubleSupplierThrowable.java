@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.DoubleSupplier;
+
+@FunctionalInterface
+public interface DoubleSupplierThrowable extends DoubleSupplier {
+
+    @Override
+    default double getAsDouble() {
+        try {
+            return getAsDoubleThrows();
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    double getAsDoubleThrows() throws Exception;
+}
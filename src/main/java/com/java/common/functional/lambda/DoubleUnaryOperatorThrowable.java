@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.DoubleUnaryOperator;
+
+@FunctionalInterface
+public interface DoubleUnaryOperatorThrowable extends DoubleUnaryOperator {
+
+    @Override
+    default double applyAsDouble(final double operand) {
+        try {
+            return applyAsDoubleThrows(operand);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    double applyAsDoubleThrows(final double operand) throws Exception;
+}
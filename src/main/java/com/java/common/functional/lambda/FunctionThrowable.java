@@ -10,9 +10,7 @@ public interface FunctionThrowable<T,R> extends Function<T, R> {
         try {
             return applyThrows(t);
         } catch (Exception e) {
-            RuntimeException re = new RuntimeException(e.getMessage());
-            re.initCause(e);
-            throw re;
+            throw ThrowableWrapper.wrap(e);
         }
     }
 
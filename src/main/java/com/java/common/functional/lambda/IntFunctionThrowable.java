@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.IntFunction;
+
+@FunctionalInterface
+public interface IntFunctionThrowable<R> extends IntFunction<R> {
+
+    @Override
+    default R apply(final int value) {
+        try {
+            return applyThrows(value);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    R applyThrows(final int value) throws Exception;
+}
@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.IntSupplier;
+
+@FunctionalInterface
+public interface IntSupplierThrowable extends IntSupplier {
+
+    @Override
+    default int getAsInt() {
+        try {
+            return getAsIntThrows();
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    int getAsIntThrows() throws Exception;
+}
@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.IntUnaryOperator;
+
+@FunctionalInterface
+public interface IntUnaryOperatorThrowable extends IntUnaryOperator {
+
+    @Override
+    default int applyAsInt(final int operand) {
+        try {
+            return applyAsIntThrows(operand);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    int applyAsIntThrows(final int operand) throws Exception;
+}
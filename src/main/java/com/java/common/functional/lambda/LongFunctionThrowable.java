@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.LongFunction;
+
+@FunctionalInterface
+public interface LongFunctionThrowable<R> extends LongFunction<R> {
+
+    @Override
+    default R apply(final long value) {
+        try {
+            return applyThrows(value);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    R applyThrows(final long value) throws Exception;
+}
@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.LongSupplier;
+
+@FunctionalInterface
+public interface LongSupplierThrowable extends LongSupplier {
+
+    @Override
+    default long getAsLong() {
+        try {
+            return getAsLongThrows();
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    long getAsLongThrows() throws Exception;
+}
@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.LongUnaryOperator;
+
+@FunctionalInterface
+public interface LongUnaryOperatorThrowable extends LongUnaryOperator {
+
+    @Override
+    default long applyAsLong(final long operand) {
+        try {
+            return applyAsLongThrows(operand);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    long applyAsLongThrows(final long operand) throws Exception;
+}
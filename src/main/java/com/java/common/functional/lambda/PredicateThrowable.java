@@ -10,9 +10,7 @@ public interface PredicateThrowable<T> extends Predicate<T> {
 		try {
 			return testThrows(t);
 		} catch (Exception e) {
-			RuntimeException re = new RuntimeException(e.getMessage());
-			re.initCause(e);
-			throw re;
+			throw ThrowableWrapper.wrap(e);
 		}
 	}
 
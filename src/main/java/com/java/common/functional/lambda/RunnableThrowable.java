@@ -7,9 +7,7 @@ public interface RunnableThrowable {
 		try {
 			runThrows();
 		} catch (Exception e) {
-			RuntimeException re = new RuntimeException(e.getMessage());
-			re.initCause(e);
-			throw re;
+			throw ThrowableWrapper.wrap(e);
 		}
 	}
 	
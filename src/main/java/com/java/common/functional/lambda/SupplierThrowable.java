@@ -10,9 +10,7 @@ public interface SupplierThrowable<T> extends Supplier<T> {
 		try {
 			return getThrows();
 		} catch (Exception e) {
-			RuntimeException re = new RuntimeException(e.getMessage());
-			re.initCause(e);
-			throw re;
+			throw ThrowableWrapper.wrap(e);
 		}
 	}
 	
@@ -0,0 +1,44 @@
+package com.java.common.functional.lambda;
+
+import com.java.common.functional.exception.StacklessException;
+
+/**
+ * Encapsule les exceptions des lambdas *Throwable lorsqu'elles sont appelées via l'interface java.util.function standard.
+ * <br>
+ * Par défaut l'exception d'encapsulation capture sa propre stack trace. Celle-ci étant redondante avec
+ * celle de la cause, sa capture peut être désactivée globalement via {@link #setCaptureStackTrace(boolean)}
+ * ou au démarrage via la propriété système <code>functional.stackless=true</code>.
+ */
+public final class ThrowableWrapper {
+
+    private static volatile boolean captureStackTrace = !Boolean.getBoolean("functional.stackless");
+
+    private ThrowableWrapper() {
+    }
+
+    /**
+     * Active ou désactive la capture de la stack trace des exceptions d'encapsulation
+     * @param capture false pour utiliser des {@link StacklessException}
+     */
+    public static void setCaptureStackTrace(boolean capture) {
+        captureStackTrace = capture;
+    }
+
+    public static boolean isCaptureStackTrace() {
+        return captureStackTrace;
+    }
+
+    /**
+     * Encapsule une exception dans une RuntimeException
+     * @param e Exception soulevée par la lambda
+     * @return Exception d'encapsulation, dont la cause est l'exception d'origine
+     */
+    public static RuntimeException wrap(Exception e) {
+        if (!captureStackTrace) {
+            return new StacklessException(e.getMessage(), e);
+        }
+        RuntimeException re = new RuntimeException(e.getMessage());
+        re.initCause(e);
+        return re;
+    }
+}
@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.ToDoubleFunction;
+
+@FunctionalInterface
+public interface ToDoubleFunctionThrowable<T> extends ToDoubleFunction<T> {
+
+    @Override
+    default double applyAsDouble(final T t) {
+        try {
+            return applyAsDoubleThrows(t);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    double applyAsDoubleThrows(final T t) throws Exception;
+}
@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.ToIntFunction;
+
+@FunctionalInterface
+public interface ToIntFunctionThrowable<T> extends ToIntFunction<T> {
+
+    @Override
+    default int applyAsInt(final T t) {
+        try {
+            return applyAsIntThrows(t);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    int applyAsIntThrows(final T t) throws Exception;
+}
@@ -0,0 +1,18 @@
+package com.java.common.functional.lambda;
+
+import java.util.function.ToLongFunction;
+
+@FunctionalInterface
+public interface ToLongFunctionThrowable<T> extends ToLongFunction<T> {
+
+    @Override
+    default long applyAsLong(final T t) {
+        try {
+            return applyAsLongThrows(t);
+        } catch (Exception e) {
+            throw ThrowableWrapper.wrap(e);
+        }
+    }
+
+    long applyAsLongThrows(final T t) throws Exception;
+}
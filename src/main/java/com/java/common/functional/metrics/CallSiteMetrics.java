@@ -0,0 +1,111 @@
+package com.java.common.functional.metrics;
+
+import com.java.common.structure.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteurs d'un site d'appel nommé : succès, erreurs par classe d'exception et latence.
+ * <br>
+ * Les compteurs sont des LongAdder et la latence un {@link LatencyHistogram} : les appels concurrents ne se disputent
+ * pas les mêmes lignes de cache, et la lecture ({@link #stats()}) ne bloque pas les appels.
+ */
+public final class CallSiteMetrics implements CallSiteMetricsMXBean {
+
+    private final String name;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final Map<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    CallSiteMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Enregistre un appel en succès
+     * @param nanos Durée de l'appel en nanosecondes
+     */
+    public void recordSuccess(long nanos) {
+        successes.increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * Enregistre un appel en erreur
+     * @param exception Erreur soulevée
+     * @param nanos Durée de l'appel en nanosecondes
+     */
+    public void recordFailure(Exception exception, long nanos) {
+        failures.increment();
+        Class<?> type = exception.getClass();
+        LongAdder counter = failuresByType.get(type);
+        if (counter == null) counter = failuresByType.computeIfAbsent(type, t -> new LongAdder());
+        counter.increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * Retourne l'état courant des compteurs
+     * @return
+     */
+    public CallSiteStats stats() {
+        return new CallSiteStats(name, successes.sum(), failures.sum(), getFailureCounts(), latency.snapshot());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        failuresByType.forEach((type, counter) -> counts.put(type.getName(), counter.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @Override
+    public double getMeanLatencyNanos() {
+        return latency.snapshot().getMean();
+    }
+
+    @Override
+    public long getP50LatencyNanos() {
+        return latency.snapshot().getP50();
+    }
+
+    @Override
+    public long getP99LatencyNanos() {
+        return latency.snapshot().getP99();
+    }
+
+    @Override
+    public long getP999LatencyNanos() {
+        return latency.snapshot().getP999();
+    }
+
+    @Override
+    public long getMaxLatencyNanos() {
+        return latency.snapshot().getMax();
+    }
+
+    @Override
+    public String toString() {
+        return stats().toString();
+    }
+}
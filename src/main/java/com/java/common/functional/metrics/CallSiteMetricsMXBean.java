@@ -0,0 +1,30 @@
+package com.java.common.functional.metrics;
+
+import java.util.Map;
+
+/**
+ * Vue JMX des compteurs d'un site d'appel nommé, voir {@link TryMetrics#exposeJmx()}
+ */
+public interface CallSiteMetricsMXBean {
+
+    String getName();
+
+    long getSuccessCount();
+
+    long getFailureCount();
+
+    /**
+     * Nombre d'erreurs par classe d'exception (nom qualifié)
+     */
+    Map<String, Long> getFailureCounts();
+
+    double getMeanLatencyNanos();
+
+    long getP50LatencyNanos();
+
+    long getP99LatencyNanos();
+
+    long getP999LatencyNanos();
+
+    long getMaxLatencyNanos();
+}
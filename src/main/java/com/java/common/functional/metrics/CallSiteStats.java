@@ -0,0 +1,49 @@
+package com.java.common.functional.metrics;
+
+import com.java.common.structure.LatencyHistogram;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Compteurs d'un site d'appel nommé à un instant donné
+ */
+public final class CallSiteStats {
+
+    @Getter private final String name;
+    @Getter private final long successCount;
+    @Getter private final long failureCount;
+    @Getter private final Map<String, Long> failureCounts;
+    @Getter private final LatencyHistogram.Snapshot latency;
+
+    public CallSiteStats(String name, long successCount, long failureCount, Map<String, Long> failureCounts, LatencyHistogram.Snapshot latency) {
+        this.name = name;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.failureCounts = failureCounts;
+        this.latency = latency;
+    }
+
+    /**
+     * Retourne le nombre total d'appels
+     * @return
+     */
+    public long callCount() {
+        return successCount + failureCount;
+    }
+
+    /**
+     * Retourne la proportion d'appels en erreur (0.0 si aucun appel)
+     * @return
+     */
+    public double failureRate() {
+        long calls = callCount();
+        return calls == 0 ? 0.0 : (double) failureCount / calls;
+    }
+
+    @Override
+    public String toString() {
+        return "CallSiteStats{name="+ name +", successCount="+ successCount +", failureCount="+ failureCount
+            +", failureCounts="+ failureCounts +", latency=["+ latency +"]}";
+    }
+}
@@ -0,0 +1,48 @@
+package com.java.common.functional.metrics;
+
+/**
+ * Evénements Java Flight Recorder émis par la librairie.
+ * <br>
+ * Version Java 8 : aucun événement n'est émis, les méthodes sont vides. Une version Java 11 (META-INF/versions/11 du jar multi-release)
+ * émet des événements JFR personnalisés (catégorie "Functional"), uniquement lorsqu'ils sont activés dans l'enregistrement en cours.
+ */
+public final class FlightEvents {
+
+    private FlightEvents() {
+    }
+
+    /**
+     * @return true si les événements peuvent être émis (Java 11+)
+     */
+    public static boolean isAvailable() {
+        return false;
+    }
+
+    /**
+     * Une Failure a été créée
+     * @param exceptionType Classe de l'exception
+     * @param errorCode Code d'erreur, ou null si la Failure porte une exception
+     * @param callSite Nom du site d'appel (voir TryFactory.named), ou null
+     */
+    public static void failure(Class<?> exceptionType, String errorCode, String callSite) {
+    }
+
+    /**
+     * Une mesure d'un timer Chrono a dépassé son seuil
+     * @param timer Nom du timer
+     * @param nanos Durée mesurée en nanosecondes
+     * @param thresholdNanos Seuil du timer en nanosecondes
+     */
+    public static void slowTimer(String timer, long nanos, long thresholdNanos) {
+    }
+
+    /**
+     * Un collector s'est terminé
+     * @param collector Nom du collector
+     * @param elementCount Nombre d'éléments traités avec succès
+     * @param shortCircuited true si une erreur a empêché l'évaluation d'au moins un élément (parcours interrompu,
+     *                       ou suppliers non appelés); false si tous les éléments ont été évalués, même en cas d'erreur
+     */
+    public static void collectorRun(String collector, long elementCount, boolean shortCircuited) {
+    }
+}
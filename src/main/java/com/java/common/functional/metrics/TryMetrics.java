@@ -0,0 +1,127 @@
+package com.java.common.functional.metrics;
+
+import com.java.common.functional.factory.TryFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registre des sites d'appel instrumentés par {@link TryFactory#named(String)}.
+ * <br>
+ * L'instrumentation est désactivée par défaut : les lambdas des factories nommées se contentent alors de lire un booléen
+ * avant d'executer le traitement non instrumenté. Une fois activée ({@link #enable()}), chaque appel mesure sa durée
+ * et incrémente les compteurs de son site d'appel.
+ * <br>
+ * Les compteurs peuvent être lus localement ({@link #snapshot()}) ou exposés en JMX ({@link #exposeJmx()}), un MBean par site d'appel :
+ * <code>com.java.common.functional:type=TryMetrics,name=&#60;nom&#62;</code>
+ */
+public final class TryMetrics {
+
+    /**
+     * Domaine des MBeans exposés
+     */
+    public static final String JMX_DOMAIN = "com.java.common.functional";
+
+    private static final Map<String, CallSiteMetrics> callSites = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+    private static volatile boolean jmx;
+
+    private TryMetrics() {
+    }
+
+    /**
+     * Active l'instrumentation des factories nommées
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Désactive l'instrumentation des factories nommées, les compteurs sont conservés
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retourne les compteurs du site d'appel, créés au premier appel
+     * @param name Nom du site d'appel
+     * @return
+     */
+    public static CallSiteMetrics callSite(String name) {
+        CallSiteMetrics metrics = callSites.get(name);
+        if (metrics != null) return metrics;
+
+        boolean[] created = new boolean[1];
+        metrics = callSites.computeIfAbsent(name, n -> {
+            created[0] = true;
+            return new CallSiteMetrics(n);
+        });
+        if (created[0] && jmx) register(metrics);
+        return metrics;
+    }
+
+    /**
+     * Retourne l'état courant des compteurs de chaque site d'appel, triés par nom
+     * @return
+     */
+    public static Map<String, CallSiteStats> snapshot() {
+        Map<String, CallSiteStats> stats = new TreeMap<>();
+        callSites.forEach((name, metrics) -> stats.put(name, metrics.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Retourne l'état courant des compteurs d'un site d'appel
+     * @param name Nom du site d'appel
+     * @return
+     */
+    public static Optional<CallSiteStats> snapshot(String name) {
+        return Optional.ofNullable(callSites.get(name)).map(CallSiteMetrics::stats);
+    }
+
+    /**
+     * Enregistre un MBean par site d'appel auprès du MBeanServer de la plateforme, y compris pour les sites créés ensuite
+     */
+    public static synchronized void exposeJmx() {
+        if (jmx) return;
+        jmx = true;
+        callSites.values().forEach(TryMetrics::register);
+    }
+
+    private static void register(CallSiteMetrics metrics) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(metrics, objectName(metrics.getName()));
+        } catch (InstanceAlreadyExistsException e) {
+            // déjà exposé (site enregistré par exposeJmx et par callSite en parallèle)
+        } catch (JMException e) {
+            throw new IllegalStateException("Impossible d'exposer le site d'appel "+ metrics.getName() +" en JMX", e);
+        }
+    }
+
+    /**
+     * Retourne le nom JMX du site d'appel
+     * @param name Nom du site d'appel
+     * @return
+     */
+    public static ObjectName objectName(String name) {
+        try {
+            return new ObjectName(JMX_DOMAIN + ":type=TryMetrics,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Nom de site d'appel invalide! ["+ name +"]", e);
+        }
+    }
+}
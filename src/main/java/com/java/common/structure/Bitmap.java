@@ -0,0 +1,219 @@
+package com.java.common.structure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Bitmap de taille fixe (un bit par élément), résultat de l'évaluation d'un predicate sur un ensemble d'éléments.
+ * <br>
+ * Les opérations and / or / andNot / xor / not combinent des bitmaps mot par mot (64 éléments à la fois),
+ * sans réévaluer les éléments. Elles retournent un nouveau bitmap, les instances ne sont jamais modifiées.
+ */
+public final class Bitmap {
+
+    private final long[] words;
+    private final int size;
+
+    /**
+     * @param words Mots du bitmap (l'élément i correspond au bit i % 64 du mot i / 64), conservés sans copie :
+     *              les bits au dela du dernier élément doivent être à 0
+     * @param size Nombre d'éléments
+     */
+    Bitmap(long[] words, int size) {
+        if (size < 0 || words.length != wordCount(size)) throw new IllegalArgumentException("Taille de bitmap incohérente! ["+ words.length +" mots, "+ size +" éléments]");
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * Construit un bitmap en évaluant chaque élément, par blocs de 64 : chaque bloc produit un mot sans branchement.
+     * <br>
+     * Les index sont évalués une seule fois chacun, dans l'ordre croissant. L'appel au predicate n'est pas spécialisé :
+     * pour des tableaux de primitifs, préférer une boucle dédiée suivie de {@link #ofWords(long[], int)}.
+     * @param size Nombre d'éléments
+     * @param bit Valeur du bit de chaque index
+     * @return
+     */
+    public static Bitmap of(int size, IntPredicate bit) {
+        if (size < 0) throw new IllegalArgumentException("Taille de bitmap négative! ["+ size +"]");
+        long[] words = new long[wordCount(size)];
+        for (int w = 0, base = 0; w < words.length; w++, base += 64) {
+            int end = Math.min(64, size - base);
+            long word = 0;
+            for (int b = 0; b < end; b++) {
+                word |= (bit.test(base + b) ? 1L : 0L) << b;
+            }
+            words[w] = word;
+        }
+        return new Bitmap(words, size);
+    }
+
+    /**
+     * Construit un bitmap à partir de ses mots (l'élément i correspond au bit i % 64 du mot i / 64).
+     * <br>
+     * Les mots sont copiés et les bits au dela du dernier élément mis à 0 : le tableau reste la propriété de l'appelant.
+     * @param words Mots du bitmap, au nombre de {@link #wordCount(int)}
+     * @param size Nombre d'éléments
+     * @return
+     */
+    public static Bitmap ofWords(long[] words, int size) {
+        if (size < 0 || words.length != wordCount(size)) throw new IllegalArgumentException("Taille de bitmap incohérente! ["+ words.length +" mots, "+ size +" éléments]");
+        long[] copy = Arrays.copyOf(words, words.length);
+        if ((size & 63) != 0) {
+            copy[copy.length - 1] &= (1L << size) - 1;
+        }
+        return new Bitmap(copy, size);
+    }
+
+    /**
+     * Retourne le nombre de mots nécessaires à un bitmap de la taille donnée
+     * @param size Nombre d'éléments
+     * @return
+     */
+    public static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Retourne le nombre d'éléments
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne la valeur du bit d'un élément
+     * @param index Index de l'élément
+     * @return
+     */
+    public boolean get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: "+ index +", Size: "+ size);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Retourne le nombre de bits à 1
+     * @return
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public Bitmap and(Bitmap other) {
+        checkSize(other);
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new Bitmap(result, size);
+    }
+
+    public Bitmap or(Bitmap other) {
+        checkSize(other);
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new Bitmap(result, size);
+    }
+
+    public Bitmap andNot(Bitmap other) {
+        checkSize(other);
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & ~other.words[i];
+        }
+        return new Bitmap(result, size);
+    }
+
+    public Bitmap xor(Bitmap other) {
+        checkSize(other);
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] ^ other.words[i];
+        }
+        return new Bitmap(result, size);
+    }
+
+    public Bitmap not() {
+        long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ~words[i];
+        }
+        // les bits au dela du dernier élément restent à 0
+        if ((size & 63) != 0) {
+            result[result.length - 1] &= (1L << size) - 1;
+        }
+        return new Bitmap(result, size);
+    }
+
+    /**
+     * Retourne les index des bits à 1, dans l'ordre croissant
+     * @return
+     */
+    public IntStream indices() {
+        return toBitSet().stream();
+    }
+
+    /**
+     * Retourne les éléments de la liste dont le bit est à 1
+     * @param values Elements évalués
+     * @param <T>
+     * @return
+     */
+    public <T> List<T> select(List<T> values) {
+        if (values.size() != size) throw new IllegalArgumentException("La liste doit contenir "+ size +" éléments! ["+ values.size() +"]");
+        List<T> result = new ArrayList<>(cardinality());
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                result.add(values.get((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retourne une copie sous forme de BitSet
+     * @return
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Retourne une copie des mots du bitmap
+     * @return
+     */
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    private void checkSize(Bitmap other) {
+        if (other.size != size) throw new IllegalArgumentException("Les bitmaps doivent avoir la même taille! ["+ size +" / "+ other.size +"]");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Bitmap bitmap = (Bitmap) o;
+        return size == bitmap.size && Arrays.equals(words, bitmap.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(words) + size;
+    }
+}
@@ -0,0 +1,121 @@
+package com.java.common.structure;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtre de Bloom concurrent, d'empreinte mémoire fixe.
+ * <br>
+ * Permet de tester l'appartenance d'un objet à un ensemble : un objet ajouté est toujours reconnu, un objet jamais ajouté
+ * peut être reconnu à tort avec une probabilité proche du taux de faux positifs demandé (tant que le nombre d'objets ajoutés
+ * ne dépasse pas le nombre prévu).
+ * <br>
+ * Les positions sont calculées à partir de {@link Object#hashCode()}.
+ * <br>
+ * {@link #put(Object)} est atomique pour un même objet : si plusieurs threads ajoutent en même temps un objet jamais ajouté,
+ * un seul d'entre eux obtient true.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+    private static final int LOCK_STRIPES = 64;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * @param expectedInsertions Nombre d'objets prévus
+     * @param falsePositiveRate Taux de faux positifs souhaité, compris entre 0 et 1 exclus
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) throw new IllegalArgumentException("Le nombre d'objets prévus doit être positif! ["+ expectedInsertions +"]");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) throw new IllegalArgumentException("Le taux de faux positifs doit être compris entre 0 et 1! ["+ falsePositiveRate +"]");
+
+        long bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        long wordCount = (bits + 63) >>> 6;
+        if (wordCount > Integer.MAX_VALUE) throw new IllegalArgumentException("Filtre de Bloom trop volumineux! ["+ bits +" bits]");
+
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Vérifie si l'objet a potentiellement été ajouté
+     * @param obj Objet à tester
+     * @return false si l'objet n'a jamais été ajouté, true s'il a probablement été ajouté
+     */
+    public boolean mightContain(Object obj) {
+        int hash = obj == null ? 0 : obj.hashCode();
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ SEED) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Ajoute un objet
+     * @param obj Objet à ajouter
+     * @return true si l'objet n'avait certainement jamais été ajouté (au moins une position a changé), false s'il l'a probablement été
+     */
+    public boolean put(Object obj) {
+        int hash = obj == null ? 0 : obj.hashCode();
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ SEED) | 1L;
+        // les ajouts d'objets égaux (même hashCode) sont sérialisés : un seul peut constater un changement.
+        // Les positions restent modifiées par CAS, car partagées avec les objets des autres verrous.
+        synchronized (locks[(int) (h1 >>> 58)]) {
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                changed |= setBit((int) (bit >>> 6), 1L << bit);
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Retourne la taille du filtre en bits
+     * @return
+     */
+    public long bitSize() {
+        return bitCount;
+    }
+
+    /**
+     * Retourne le nombre de positions calculées par objet
+     * @return
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private boolean setBit(int index, long mask) {
+        long word;
+        do {
+            word = words.get(index);
+            if ((word & mask) != 0) return false;
+        } while (!words.compareAndSet(index, word, word | mask));
+        return true;
+    }
+
+    /**
+     * Finaliseur de MurmurHash3 : répartit les 32 bits du hashCode sur 64 bits
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,22 +1,116 @@
 package com.java.common.structure;
 
+import com.java.common.functional.metrics.FlightEvents;
+
 import java.math.BigInteger;
-import java.security.SecureRandom;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class Chrono {
-    private static final SecureRandom random;
     private static final Map<String, Long> cache;
+    private static final Map<String, Timer> timers;
+    private static final SpanBuffer spans;
+    private static final ThreadLocal<SpanStack> spanStacks;
+
+    /**
+     * Nombre de spans terminés conservés pour {@link #spanReport()}
+     */
+    public static final int SPAN_CAPACITY = 1 << 14;
 
     static {
-        random = new SecureRandom();
         cache = new ConcurrentHashMap<>();
+        timers = new ConcurrentHashMap<>();
+        spans = new SpanBuffer(SPAN_CAPACITY);
+        spanStacks = ThreadLocal.withInitial(() -> new SpanStack(spans));
     }
 
     public static String nextId() {
-        return new BigInteger(130, random).toString(32);
+        return new BigInteger(130, ThreadLocalRandom.current()).toString(32);
+    }
+
+    /**
+     * Retourne le timer nommé, créé au premier appel. La référence retournée peut être conservée :
+     * les mesures suivantes n'ont alors plus besoin de recherche par nom.
+     * <pre>
+     * private static final Chrono.Timer TIMER = Chrono.timer("repository.find");
+     *
+     * try (Chrono.Scope scope = TIMER.start()) {
+     *     ...
+     * }
+     * System.out.println(TIMER.snapshot().getP99());
+     * </pre>
+     * @param name Nom du timer
+     * @return
+     */
+    public static Timer timer(String name) {
+        Timer timer = timers.get(name);
+        return timer != null ? timer : timers.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Retourne les timers nommés existants
+     * @return
+     */
+    public static Map<String, Timer> timers() {
+        return Collections.unmodifiableMap(timers);
+    }
+
+    /**
+     * Ouvre un span, enfant du dernier span ouvert par le thread courant (ou du span ayant soumis la tache en cours,
+     * voir {@link #propagate(Runnable)}).
+     * <pre>
+     * try (Span request = Chrono.span("request")) {
+     *     try (Span query = Chrono.span("query")) {
+     *         ...
+     *     }
+     * }
+     * System.out.println(Chrono.spanReport());
+     * </pre>
+     * @param name Nom du span, de préférence une constante
+     * @return
+     */
+    public static Span span(String name) {
+        return spanStacks.get().open(name);
+    }
+
+    /**
+     * Retourne l'arbre des appels agrégé sur les {@value #SPAN_CAPACITY} derniers spans terminés, tous threads confondus
+     * @return
+     */
+    public static SpanReport spanReport() {
+        return SpanReport.of(spans);
+    }
+
+    /**
+     * Oublie les spans terminés
+     */
+    public static void clearSpans() {
+        spans.clear();
+    }
+
+    /**
+     * Retourne une tache dont les spans seront rattachés au span courant, quel que soit le thread qui l'execute
+     * @param task Tache à soumettre à un executor
+     * @return La tache elle-même si aucun span n'est ouvert
+     */
+    public static Runnable propagate(Runnable task) {
+        SpanPath path = spanStacks.get().current();
+        if (path == SpanPath.ROOT) return task;
+        return () -> spanStacks.get().runUnder(path, task);
+    }
+
+    /**
+     * Retourne un executor propageant le span courant (au moment de la soumission) aux taches soumises
+     * @param executor Executor à envelopper
+     * @return
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> executor.execute(propagate(task));
     }
 
     /**
@@ -24,7 +118,7 @@ public class Chrono {
      * @param uid Identifiant associé au chrono
      */
     public static void start(String uid) {
-        cache.put(uid, System.currentTimeMillis());
+        cache.put(uid, System.nanoTime());
     }
 
     /**
@@ -78,7 +172,7 @@ public class Chrono {
      */
     public static long stop(String uid) {
         Long timeStart = cache.remove(uid);
-        return timeStart != null? System.currentTimeMillis() - timeStart: 0;
+        return timeStart != null? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timeStart): 0;
     }
 
     /**
@@ -115,7 +209,7 @@ public class Chrono {
 
     public static String displayToHumanFormat(String uid) {
         Long timeStart = cache.get(uid);
-        Long diff = timeStart != null? System.currentTimeMillis() - timeStart: 0;
+        Long diff = timeStart != null? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timeStart): 0;
         return humanFormat(diff);
     }
 
@@ -150,4 +244,114 @@ public class Chrono {
 
         return sb.toString();
     }
+
+    /**
+     * Retourne la valeur humainement lisible d'une durée en nanosecondes
+     * @param nanos Durée en nanosecondes
+     * @return Durée en ns ou µs sous 10 ms, sinon au format de {@link #humanFormat(Long)}
+     */
+    public static String humanFormatNanos(long nanos) {
+        if (nanos < TimeUnit.MICROSECONDS.toNanos(10)) return nanos + "ns.";
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(10)) return TimeUnit.NANOSECONDS.toMicros(nanos) + "us.";
+        return humanFormat(TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * Timer nommé enregistrant ses durées (mesurées avec {@link System#nanoTime()}) dans un {@link LatencyHistogram}
+     */
+    public static final class Timer {
+
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private volatile long slowThresholdNanos = Long.MAX_VALUE;
+
+        private Timer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Définit le seuil au dela duquel une mesure émet un événement Flight Recorder (voir {@link FlightEvents}), aucun par défaut
+         * @param threshold Durée du seuil
+         * @param unit Unité de la durée
+         * @return Le timer
+         */
+        public Timer slowThreshold(long threshold, TimeUnit unit) {
+            if (threshold < 0) throw new IllegalArgumentException("Le seuil doit être positif! ["+ threshold +"]");
+            this.slowThresholdNanos = unit.toNanos(threshold);
+            return this;
+        }
+
+        /**
+         * Retourne le seuil des mesures lentes en nanosecondes, Long.MAX_VALUE si aucun seuil n'est défini
+         * @return
+         */
+        public long getSlowThresholdNanos() {
+            return slowThresholdNanos;
+        }
+
+        /**
+         * Démarre une mesure, enregistrée à la fermeture du scope (try-with-resources)
+         * @return
+         */
+        public Scope start() {
+            return new Scope(this, System.nanoTime());
+        }
+
+        /**
+         * Enregistre une durée mesurée par ailleurs
+         * @param nanos Durée en nanosecondes
+         */
+        public void record(long nanos) {
+            histogram.record(nanos);
+            long threshold = slowThresholdNanos;
+            if (nanos > threshold) FlightEvents.slowTimer(name, nanos, threshold);
+        }
+
+        /**
+         * Retourne l'état courant du timer (nombre, moyenne, p50, p99, p999, max), sans interrompre les mesures en cours
+         * @return
+         */
+        public LatencyHistogram.Snapshot snapshot() {
+            return histogram.snapshot();
+        }
+
+        @Override
+        public String toString() {
+            return name + " [" + snapshot() + "]";
+        }
+    }
+
+    /**
+     * Mesure en cours d'un {@link Timer}, enregistrée à sa première fermeture
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Timer timer;
+        private final long startNanos;
+        private boolean closed;
+
+        private Scope(Timer timer, long startNanos) {
+            this.timer = timer;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Retourne la durée écoulée depuis le début de la mesure, en nanosecondes
+         * @return
+         */
+        public long elapsed() {
+            return System.nanoTime() - startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            timer.record(elapsed());
+        }
+    }
 }
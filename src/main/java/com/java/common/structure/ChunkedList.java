@@ -0,0 +1,146 @@
+package com.java.common.structure;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Liste d'accumulation chaînant des blocs de valeurs, utilisée comme conteneur intermédiaire par les collectors.
+ * <br>
+ * L'ajout est en O(1) amorti et la concaténation ({@link #concat}) en O(1) : les blocs de la seconde liste sont chaînés
+ * à la suite de ceux de la première, sans copie. Les valeurs ne sont copiées qu'une seule fois, à la conversion finale
+ * ({@link #toList()}, {@link #toFunctionalList()}).
+ * <br>
+ * Une instance n'est pas thread-safe.
+ * @param <E>
+ */
+public final class ChunkedList<E> implements Iterable<E> {
+
+    private static final int FIRST_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 1024;
+
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public ChunkedList<E> add(E element) {
+        if (tail == null) {
+            head = tail = new Chunk(FIRST_CHUNK_SIZE);
+        } else if (tail.count == tail.values.length) {
+            Chunk chunk = new Chunk(Math.min(MAX_CHUNK_SIZE, tail.values.length << 1));
+            tail.next = chunk;
+            tail = chunk;
+        }
+        tail.values[tail.count++] = element;
+        size++;
+        return this;
+    }
+
+    /**
+     * Chaîne les valeurs de l'autre liste à la suite de celles-ci, en O(1).
+     * <br>
+     * Les blocs de l'autre liste sont repris sans copie : celle-ci ne doit plus être utilisée ensuite.
+     * @param other Liste à concaténer
+     * @return Cette liste
+     */
+    public ChunkedList<E> concat(ChunkedList<E> other) {
+        if (other.size == 0) return this;
+        if (size == 0) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+        }
+        tail = other.tail;
+        size += other.size;
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                action.accept((E) chunk.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Chunk chunk = head;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (chunk != null && index == chunk.count) {
+                    chunk = chunk.next;
+                    index = 0;
+                }
+                return chunk != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException("No other element!");
+                return (E) chunk.values[index++];
+            }
+        };
+    }
+
+    /**
+     * Copie les valeurs dans un tableau
+     * @return
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int offset = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.values, 0, result, offset, chunk.count);
+            offset += chunk.count;
+        }
+        return result;
+    }
+
+    /**
+     * Copie les valeurs dans une ArrayList
+     * @return
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Copie les valeurs dans une FunctionalList
+     * @return
+     */
+    public FunctionalList<E> toFunctionalList() {
+        FunctionalList<E> list = new FunctionalList<>();
+        list.ensureCapacity(size);
+        forEach(list::add);
+        return list;
+    }
+
+    private static final class Chunk {
+        private final Object[] values;
+        private int count;
+        private Chunk next;
+
+        Chunk(int capacity) {
+            this.values = new Object[capacity];
+        }
+    }
+}
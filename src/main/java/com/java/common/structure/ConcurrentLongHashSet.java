@@ -0,0 +1,138 @@
+package com.java.common.structure;
+
+/**
+ * Ensemble concurrent de long, sans boxing.
+ * <br>
+ * L'ensemble est découpé en segments indépendants, chacun étant une table à adressage ouvert (sondage linéaire) protégée par son propre verrou :
+ * des threads ajoutant des valeurs différentes ne se bloquent donc quasiment jamais.
+ */
+public class ConcurrentLongHashSet {
+
+    private static final int MAX_STRIPES = 1 << 10;
+    private static final int DEFAULT_STRIPES = stripesFor(Runtime.getRuntime().availableProcessors() * 4);
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public ConcurrentLongHashSet() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param concurrency Nombre de threads concurrents prévus (arrondi à la puissance de 2 supérieure)
+     */
+    public ConcurrentLongHashSet(int concurrency) {
+        if (concurrency < 1) throw new IllegalArgumentException("La concurrence doit être positive! ["+ concurrency +"]");
+        int count = stripesFor(concurrency);
+        this.stripes = new Stripe[count];
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Ajoute une valeur
+     * @param value Valeur à ajouter
+     * @return true si la valeur n'était pas présente
+     */
+    public boolean add(long value) {
+        long hash = mix(value);
+        return stripes[(int) (hash >>> 32) & mask].add(value, (int) hash);
+    }
+
+    /**
+     * Vérifie la présence d'une valeur
+     * @param value Valeur à tester
+     * @return
+     */
+    public boolean contains(long value) {
+        long hash = mix(value);
+        return stripes[(int) (hash >>> 32) & mask].contains(value, (int) hash);
+    }
+
+    /**
+     * Retourne le nombre de valeurs de l'ensemble
+     * @return
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private static int stripesFor(int concurrency) {
+        int count = Integer.highestOneBit(Math.min(MAX_STRIPES, Math.max(1, concurrency)));
+        return count < concurrency && count < MAX_STRIPES ? count << 1 : count;
+    }
+
+    /**
+     * Finaliseur de MurmurHash3
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Table à adressage ouvert dont la valeur 0 désigne une case vide (la présence de 0 est mémorisée à part)
+     */
+    private static final class Stripe {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] table = new long[INITIAL_CAPACITY];
+        private int size;
+        private boolean hasZero;
+
+        synchronized boolean add(long value, int hash) {
+            if (value == 0) {
+                if (hasZero) return false;
+                hasZero = true;
+                return true;
+            }
+            int index = indexOf(table, value, hash);
+            if (table[index] == value) return false;
+
+            table[index] = value;
+            // facteur de charge maximum : 0.5
+            if (++size << 1 > table.length) resize();
+            return true;
+        }
+
+        synchronized boolean contains(long value, int hash) {
+            return value == 0 ? hasZero : table[indexOf(table, value, hash)] == value;
+        }
+
+        synchronized int size() {
+            return hasZero ? size + 1 : size;
+        }
+
+        private void resize() {
+            long[] old = table;
+            long[] grown = new long[old.length << 1];
+            for (long value : old) {
+                if (value != 0) grown[indexOf(grown, value, (int) mix(value))] = value;
+            }
+            table = grown;
+        }
+
+        /**
+         * Retourne l'index de la valeur, ou de la première case vide rencontrée
+         */
+        private static int indexOf(long[] table, long value, int hash) {
+            int mask = table.length - 1;
+            int index = hash & mask;
+            while (table[index] != 0 && table[index] != value) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.java.common.structure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+
+/**
+ * Equivalent de {@link FunctionalList} pour des valeurs double, stockées dans un tableau redimensionnable (sans boxing).
+ * <br>
+ * Offre la même API de curseur interne que {@link CastableList} (next, previous, get, first, last), avec des signatures primitives.
+ */
+public class DoubleFunctionalList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] values;
+    private int size;
+    private int internalIndex = 0;
+
+    public DoubleFunctionalList() {
+        this.values = new double[DEFAULT_CAPACITY];
+    }
+
+    public DoubleFunctionalList(double...values) {
+        this.values = values.clone();
+        this.size = values.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retourne la valeur
+     * @param index Index de la valeur
+     * @return
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: "+ index +", Size: "+ size);
+        return values[index];
+    }
+
+    /**
+     * Retourne la potentielle valeur
+     * @param index Index de la valeur
+     * @return Potentielle valeur
+     */
+    public OptionalDouble toOption(int index) {
+        return index < 0 || index >= size ? OptionalDouble.empty() : OptionalDouble.of(values[index]);
+    }
+
+    /**
+     * Remplace une valeur
+     * @param index Index de la valeur
+     * @param value Nouvelle valeur
+     * @return Ancienne valeur
+     */
+    public double set(int index, double value) {
+        double previous = get(index);
+        values[index] = value;
+        return previous;
+    }
+
+    public DoubleFunctionalList addChain(double value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+        return this;
+    }
+
+    public DoubleFunctionalList addAllChain(double...others) {
+        ensureCapacity(size + others.length);
+        System.arraycopy(others, 0, values, size, others.length);
+        size += others.length;
+        return this;
+    }
+
+    public DoubleFunctionalList addAllChain(DoubleFunctionalList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * Verifie s'il existe une prochaine valeur
+     * @return
+     */
+    public boolean hasNext() {
+        return internalIndex < size;
+    }
+
+    /**
+     * Vérifie s'il existe une valeur précédente
+     * @return
+     */
+    public boolean hasPrevious() {
+        return internalIndex - 1 >= 0;
+    }
+
+    /**
+     * Récupére la prochaine valeur en incrémentant le curseur interne
+     * @return
+     */
+    public double next() {
+        if (!hasNext()) throw new NoSuchElementException("No other element!");
+        return values[internalIndex++];
+    }
+
+    /**
+     * Récupére la valeur précédente en décrémentant le curseur interne
+     * @return
+     */
+    public double previous() {
+        if (!hasPrevious()) throw new NoSuchElementException("No previous element!");
+        return values[--internalIndex];
+    }
+
+    /**
+     * Retourne la valeur courante, sans déplacé le curseur interne
+     * @return
+     */
+    public double get() {
+        return get(internalIndex);
+    }
+
+    /**
+     * Retourne le premier élément de la liste sans déplacé le curseur interne
+     * @return
+     */
+    public double first() {
+        return get(0);
+    }
+
+    /**
+     * Retourne le dernier element de la liste sans déplacé le curseur interne
+     * @return
+     */
+    public double last() {
+        return get(size - 1);
+    }
+
+    public DoubleStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    /**
+     * Retourne une copie des valeurs
+     * @return
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Retourne une copie des valeurs sous forme de liste d'objets
+     * @return
+     */
+    public FunctionalList<Double> boxed() {
+        FunctionalList<Double> list = new FunctionalList<>();
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return list;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length << 1));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DoubleFunctionalList other = (DoubleFunctionalList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(values[i], other.values[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Double.hashCode(values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    public static DoubleFunctionalList convert(double...values) {
+        return new DoubleFunctionalList(values);
+    }
+}
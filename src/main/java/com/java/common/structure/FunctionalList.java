@@ -96,6 +96,14 @@ public class FunctionalList<E> extends ArrayList<E> implements CastableList<E> {
         return get(size() - 1);
     }
 
+    /**
+     * Retourne une vue paresseuse de la liste (map, filter, limit sans copie), voir {@link LazyList}
+     * @return
+     */
+    public LazyList<E> lazy() {
+        return LazyList.of(this);
+    }
+
     public static <T> FunctionalList<T> convert(List<T> list) {
         return new FunctionalList<T>().addAllChain(list);
     }
@@ -0,0 +1,208 @@
+package com.java.common.structure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+/**
+ * Equivalent de {@link FunctionalList} pour des valeurs int, stockées dans un tableau redimensionnable (sans boxing).
+ * <br>
+ * Offre la même API de curseur interne que {@link CastableList} (next, previous, get, first, last), avec des signatures primitives.
+ */
+public class IntFunctionalList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int size;
+    private int internalIndex = 0;
+
+    public IntFunctionalList() {
+        this.values = new int[DEFAULT_CAPACITY];
+    }
+
+    public IntFunctionalList(int...values) {
+        this.values = values.clone();
+        this.size = values.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retourne la valeur
+     * @param index Index de la valeur
+     * @return
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: "+ index +", Size: "+ size);
+        return values[index];
+    }
+
+    /**
+     * Retourne la potentielle valeur
+     * @param index Index de la valeur
+     * @return Potentielle valeur
+     */
+    public OptionalInt toOption(int index) {
+        return index < 0 || index >= size ? OptionalInt.empty() : OptionalInt.of(values[index]);
+    }
+
+    /**
+     * Remplace une valeur
+     * @param index Index de la valeur
+     * @param value Nouvelle valeur
+     * @return Ancienne valeur
+     */
+    public int set(int index, int value) {
+        int previous = get(index);
+        values[index] = value;
+        return previous;
+    }
+
+    public IntFunctionalList addChain(int value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+        return this;
+    }
+
+    public IntFunctionalList addAllChain(int...others) {
+        ensureCapacity(size + others.length);
+        System.arraycopy(others, 0, values, size, others.length);
+        size += others.length;
+        return this;
+    }
+
+    public IntFunctionalList addAllChain(IntFunctionalList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * Verifie s'il existe une prochaine valeur
+     * @return
+     */
+    public boolean hasNext() {
+        return internalIndex < size;
+    }
+
+    /**
+     * Vérifie s'il existe une valeur précédente
+     * @return
+     */
+    public boolean hasPrevious() {
+        return internalIndex - 1 >= 0;
+    }
+
+    /**
+     * Récupére la prochaine valeur en incrémentant le curseur interne
+     * @return
+     */
+    public int next() {
+        if (!hasNext()) throw new NoSuchElementException("No other element!");
+        return values[internalIndex++];
+    }
+
+    /**
+     * Récupére la valeur précédente en décrémentant le curseur interne
+     * @return
+     */
+    public int previous() {
+        if (!hasPrevious()) throw new NoSuchElementException("No previous element!");
+        return values[--internalIndex];
+    }
+
+    /**
+     * Retourne la valeur courante, sans déplacé le curseur interne
+     * @return
+     */
+    public int get() {
+        return get(internalIndex);
+    }
+
+    /**
+     * Retourne le premier élément de la liste sans déplacé le curseur interne
+     * @return
+     */
+    public int first() {
+        return get(0);
+    }
+
+    /**
+     * Retourne le dernier element de la liste sans déplacé le curseur interne
+     * @return
+     */
+    public int last() {
+        return get(size - 1);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    /**
+     * Retourne une copie des valeurs
+     * @return
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Retourne une copie des valeurs sous forme de liste d'objets
+     * @return
+     */
+    public FunctionalList<Integer> boxed() {
+        FunctionalList<Integer> list = new FunctionalList<>();
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return list;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length << 1));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IntFunctionalList other = (IntFunctionalList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != other.values[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Integer.hashCode(values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    public static IntFunctionalList convert(int...values) {
+        return new IntFunctionalList(values);
+    }
+}
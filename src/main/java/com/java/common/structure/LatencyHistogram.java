@@ -0,0 +1,171 @@
+package com.java.common.structure;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de durées (en nanosecondes) sans verrou, à précision relative constante (principe d'HdrHistogram).
+ * <br>
+ * Chaque puissance de 2 est découpée en {@value #SUB_BUCKETS} intervalles : une durée est enregistrée avec une erreur relative
+ * inférieure à 1 / {@value #SUB_BUCKETS} (1,6 %), jusqu'à 2^{@value #MAX_EXPONENT} ns (environ 9 heures), au dela elle est plafonnée.
+ * <br>
+ * Les compteurs sont répartis sur plusieurs bandes (une par groupe de threads, allouées à la première utilisation) afin que
+ * les threads enregistrant en parallèle ne se disputent pas les mêmes lignes de cache. Un {@link #snapshot()} additionne les bandes
+ * sans bloquer les écritures : les enregistrements concurrents peuvent y figurer ou non.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 45;
+    private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private static final int STRIPES = Math.min(8, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1));
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Enregistre une durée
+     * @param nanos Durée en nanosecondes, les valeurs négatives sont ramenées à 0
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        stripe().getAndIncrement(bucketIndex(value));
+        totalNanos.add(value);
+
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // CAS uniquement lorsque le maximum augmente
+        }
+    }
+
+    /**
+     * Retourne une copie de l'état courant, sans interrompre les enregistrements
+     * @return
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            if (stripe == null) continue;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long c = stripe.get(i);
+                counts[i] += c;
+                count += c;
+            }
+        }
+        return new Snapshot(counts, count, totalNanos.sum(), max.get());
+    }
+
+    private AtomicLongArray stripe() {
+        int index = (int) (Thread.currentThread().getId() * 0x9e3779b97f4a7c15L >>> 32) & (STRIPES - 1);
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicLongArray(BUCKET_COUNT));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Plus grande valeur enregistrée dans l'intervalle
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long sub = (index & (SUB_BUCKETS - 1)) + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /**
+     * Etat d'un histogramme à un instant donné
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long max;
+
+        Snapshot(long[] counts, long count, long totalNanos, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.max = max;
+        }
+
+        /**
+         * Retourne le nombre de durées enregistrées
+         * @return
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Retourne la durée maximale en nanosecondes (valeur exacte)
+         * @return
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Retourne la durée moyenne en nanosecondes
+         * @return
+         */
+        public double getMean() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Retourne le centile en nanosecondes : la durée sous laquelle se situe la proportion donnée des enregistrements
+         * @param percentile Centile, entre 0 et 100
+         * @return
+         */
+        public long getPercentile(double percentile) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(highestValue(i), max);
+            }
+            return max;
+        }
+
+        public long getP50() {
+            return getPercentile(50);
+        }
+
+        public long getP99() {
+            return getPercentile(99);
+        }
+
+        public long getP999() {
+            return getPercentile(99.9);
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count
+                + ", mean=" + Chrono.humanFormatNanos((long) getMean())
+                + ", p50=" + Chrono.humanFormatNanos(getP50())
+                + ", p99=" + Chrono.humanFormatNanos(getP99())
+                + ", p999=" + Chrono.humanFormatNanos(getP999())
+                + ", max=" + Chrono.humanFormatNanos(max);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.java.common.structure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Vue paresseuse d'une liste : map, filter et limit ne copient rien, les éléments ne sont calculés qu'à la lecture.
+ * <br>
+ * Un map est recalculé à chaque accès, sauf s'il est mémoïsé. Un filter n'évalue son predicate que sur les éléments nécessaires
+ * pour atteindre l'index demandé, et conserve les index déjà trouvés. Seuls {@link #size()}, {@link #last()} et les conversions
+ * ({@link #toList()}, {@link #toFunctionalList()}) parcourent toute la source.
+ * <br>
+ * La vue reflète la source : celle-ci ne doit pas être modifiée pendant l'utilisation de la vue.
+ * Comme {@link FunctionalList}, une instance n'est pas thread-safe.
+ * @param <E>
+ */
+public abstract class LazyList<E> implements CastableList<E>, Iterable<E> {
+
+    private int internalIndex = 0;
+
+    LazyList() {
+    }
+
+    /**
+     * Retourne une vue paresseuse de la liste
+     * @param source Liste source
+     * @param <E>
+     * @return
+     */
+    public static <E> LazyList<E> of(List<E> source) {
+        return new SourceView<>(source);
+    }
+
+    /**
+     * Vérifie si l'élément existe, en évaluant la source jusqu'à cet index si nécessaire
+     */
+    abstract boolean exists(int index);
+
+    /**
+     * Calcule l'élément, dont l'existence a été vérifiée
+     */
+    abstract E compute(int index);
+
+    /**
+     * Retourne le nombre d'éléments, en évaluant toute la source si nécessaire
+     * @return
+     */
+    public abstract int size();
+
+    /**
+     * Retourne une vue dont chaque élément est transformé à la lecture, sans mémoïsation
+     * @param mapper Transformation
+     * @param <R>
+     * @return
+     */
+    public <R> LazyList<R> map(Function<? super E, ? extends R> mapper) {
+        return map(mapper, false);
+    }
+
+    /**
+     * Retourne une vue dont chaque élément est transformé à la lecture
+     * @param mapper Transformation
+     * @param memoize true pour ne calculer chaque élément qu'une seule fois
+     * @param <R>
+     * @return
+     */
+    public <R> LazyList<R> map(Function<? super E, ? extends R> mapper, boolean memoize) {
+        return new MappedView<>(this, mapper, memoize);
+    }
+
+    /**
+     * Retourne une vue ne contenant que les éléments acceptés par le predicate, évalué au fur et à mesure des lectures
+     * @param predicate Predicate à respecter
+     * @return
+     */
+    public LazyList<E> filter(Predicate<? super E> predicate) {
+        return new FilteredView<>(this, predicate);
+    }
+
+    /**
+     * Retourne une vue limitée aux premiers éléments
+     * @param maxSize Nombre maximum d'éléments
+     * @return
+     */
+    public LazyList<E> limit(int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("La taille maximale doit être positive! ["+ maxSize +"]");
+        return new LimitedView<>(this, maxSize);
+    }
+
+    public boolean isEmpty() {
+        return !exists(0);
+    }
+
+    public E get(int index) {
+        if (!exists(index)) throw new IndexOutOfBoundsException("Index: "+ index);
+        return compute(index);
+    }
+
+    @Override
+    public Optional<E> toOption(int index) {
+        return exists(index) ? Optional.ofNullable(compute(index)) : Optional.empty();
+    }
+
+    @Override
+    public <T> Optional<T> toOption(int index, Class<T> type) {
+        return Optional.ofNullable(get(index, type));
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return exists(index) ? type.cast(compute(index)) : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return exists(internalIndex);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return internalIndex - 1 >= 0;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) throw new NoSuchElementException("No other element!");
+        return compute(internalIndex++);
+    }
+
+    @Override
+    public <T> T next(Class<T> type) {
+        return type.cast(next());
+    }
+
+    @Override
+    public E previous() {
+        if (!hasPrevious()) throw new NoSuchElementException("No previous element!");
+        return compute(--internalIndex);
+    }
+
+    @Override
+    public <T> T previous(Class<T> type) {
+        return type.cast(previous());
+    }
+
+    @Override
+    public E get() {
+        return get(internalIndex);
+    }
+
+    @Override
+    public <T> T get(Class<T> type) {
+        return type.cast(get());
+    }
+
+    @Override
+    public E first() {
+        return get(0);
+    }
+
+    @Override
+    public E last() {
+        return get(size() - 1);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return exists(index);
+            }
+
+            @Override
+            public E next() {
+                if (!exists(index)) throw new NoSuchElementException("No other element!");
+                return compute(index++);
+            }
+        };
+    }
+
+    /**
+     * Calcule tous les éléments dans une nouvelle liste
+     * @return
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>();
+        for (int i = 0; exists(i); i++) {
+            list.add(compute(i));
+        }
+        return list;
+    }
+
+    /**
+     * Calcule tous les éléments dans une nouvelle FunctionalList
+     * @return
+     */
+    public FunctionalList<E> toFunctionalList() {
+        FunctionalList<E> list = new FunctionalList<>();
+        for (int i = 0; exists(i); i++) {
+            list.add(compute(i));
+        }
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static final class SourceView<E> extends LazyList<E> {
+
+        private final List<E> source;
+
+        SourceView(List<E> source) {
+            this.source = source;
+        }
+
+        @Override
+        boolean exists(int index) {
+            return index >= 0 && index < source.size();
+        }
+
+        @Override
+        E compute(int index) {
+            return source.get(index);
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+
+    private static final class MappedView<S, E> extends LazyList<E> {
+
+        private static final Object NOT_COMPUTED = new Object();
+
+        private final LazyList<S> parent;
+        private final Function<? super S, ? extends E> mapper;
+        private final boolean memoize;
+        private Object[] values;
+
+        MappedView(LazyList<S> parent, Function<? super S, ? extends E> mapper, boolean memoize) {
+            this.parent = parent;
+            this.mapper = mapper;
+            this.memoize = memoize;
+        }
+
+        @Override
+        boolean exists(int index) {
+            return parent.exists(index);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        E compute(int index) {
+            if (!memoize) return mapper.apply(parent.compute(index));
+
+            if (values == null || index >= values.length) {
+                int length = Math.max(index + 1, values == null ? 16 : values.length << 1);
+                int previous = values == null ? 0 : values.length;
+                values = values == null ? new Object[length] : Arrays.copyOf(values, length);
+                Arrays.fill(values, previous, length, NOT_COMPUTED);
+            }
+            Object value = values[index];
+            if (value == NOT_COMPUTED) {
+                value = mapper.apply(parent.compute(index));
+                values[index] = value;
+            }
+            return (E) value;
+        }
+
+        @Override
+        public int size() {
+            return parent.size();
+        }
+    }
+
+    private static final class FilteredView<E> extends LazyList<E> {
+
+        private final LazyList<E> parent;
+        private final Predicate<? super E> predicate;
+        private int[] matches = new int[16];
+        private int matchCount;
+        private int scanned;
+
+        FilteredView(LazyList<E> parent, Predicate<? super E> predicate) {
+            this.parent = parent;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean exists(int index) {
+            if (index < 0) return false;
+            while (matchCount <= index && parent.exists(scanned)) {
+                if (predicate.test(parent.compute(scanned))) {
+                    if (matchCount == matches.length) matches = Arrays.copyOf(matches, matchCount << 1);
+                    matches[matchCount++] = scanned;
+                }
+                scanned++;
+            }
+            return index < matchCount;
+        }
+
+        @Override
+        E compute(int index) {
+            return parent.compute(matches[index]);
+        }
+
+        @Override
+        public int size() {
+            exists(Integer.MAX_VALUE - 1);
+            return matchCount;
+        }
+    }
+
+    private static final class LimitedView<E> extends LazyList<E> {
+
+        private final LazyList<E> parent;
+        private final int maxSize;
+
+        LimitedView(LazyList<E> parent, int maxSize) {
+            this.parent = parent;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        boolean exists(int index) {
+            return index < maxSize && parent.exists(index);
+        }
+
+        @Override
+        E compute(int index) {
+            return parent.compute(index);
+        }
+
+        @Override
+        public int size() {
+            if (maxSize == 0) return 0;
+            return parent.exists(maxSize - 1) ? maxSize : parent.size();
+        }
+    }
+}
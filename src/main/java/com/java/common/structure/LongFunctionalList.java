@@ -0,0 +1,208 @@
+package com.java.common.structure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+/**
+ * Equivalent de {@link FunctionalList} pour des valeurs long, stockées dans un tableau redimensionnable (sans boxing).
+ * <br>
+ * Offre la même API de curseur interne que {@link CastableList} (next, previous, get, first, last), avec des signatures primitives.
+ */
+public class LongFunctionalList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] values;
+    private int size;
+    private int internalIndex = 0;
+
+    public LongFunctionalList() {
+        this.values = new long[DEFAULT_CAPACITY];
+    }
+
+    public LongFunctionalList(long...values) {
+        this.values = values.clone();
+        this.size = values.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retourne la valeur
+     * @param index Index de la valeur
+     * @return
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: "+ index +", Size: "+ size);
+        return values[index];
+    }
+
+    /**
+     * Retourne la potentielle valeur
+     * @param index Index de la valeur
+     * @return Potentielle valeur
+     */
+    public OptionalLong toOption(int index) {
+        return index < 0 || index >= size ? OptionalLong.empty() : OptionalLong.of(values[index]);
+    }
+
+    /**
+     * Remplace une valeur
+     * @param index Index de la valeur
+     * @param value Nouvelle valeur
+     * @return Ancienne valeur
+     */
+    public long set(int index, long value) {
+        long previous = get(index);
+        values[index] = value;
+        return previous;
+    }
+
+    public LongFunctionalList addChain(long value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+        return this;
+    }
+
+    public LongFunctionalList addAllChain(long...others) {
+        ensureCapacity(size + others.length);
+        System.arraycopy(others, 0, values, size, others.length);
+        size += others.length;
+        return this;
+    }
+
+    public LongFunctionalList addAllChain(LongFunctionalList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * Verifie s'il existe une prochaine valeur
+     * @return
+     */
+    public boolean hasNext() {
+        return internalIndex < size;
+    }
+
+    /**
+     * Vérifie s'il existe une valeur précédente
+     * @return
+     */
+    public boolean hasPrevious() {
+        return internalIndex - 1 >= 0;
+    }
+
+    /**
+     * Récupére la prochaine valeur en incrémentant le curseur interne
+     * @return
+     */
+    public long next() {
+        if (!hasNext()) throw new NoSuchElementException("No other element!");
+        return values[internalIndex++];
+    }
+
+    /**
+     * Récupére la valeur précédente en décrémentant le curseur interne
+     * @return
+     */
+    public long previous() {
+        if (!hasPrevious()) throw new NoSuchElementException("No previous element!");
+        return values[--internalIndex];
+    }
+
+    /**
+     * Retourne la valeur courante, sans déplacé le curseur interne
+     * @return
+     */
+    public long get() {
+        return get(internalIndex);
+    }
+
+    /**
+     * Retourne le premier élément de la liste sans déplacé le curseur interne
+     * @return
+     */
+    public long first() {
+        return get(0);
+    }
+
+    /**
+     * Retourne le dernier element de la liste sans déplacé le curseur interne
+     * @return
+     */
+    public long last() {
+        return get(size - 1);
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    /**
+     * Retourne une copie des valeurs
+     * @return
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Retourne une copie des valeurs sous forme de liste d'objets
+     * @return
+     */
+    public FunctionalList<Long> boxed() {
+        FunctionalList<Long> list = new FunctionalList<>();
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return list;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length << 1));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LongFunctionalList other = (LongFunctionalList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != other.values[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    public static LongFunctionalList convert(long...values) {
+        return new LongFunctionalList(values);
+    }
+}
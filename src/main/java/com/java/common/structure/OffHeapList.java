@@ -0,0 +1,325 @@
+package com.java.common.structure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Liste d'éléments de taille fixe stockée hors du tas, dans des ByteBuffer directs ou dans un fichier mappé en mémoire.
+ * <br>
+ * Les éléments sont encodés par un {@link RecordCodec} dans des segments de taille fixe, alloués au fur et à mesure des ajouts :
+ * le tas ne contient que les références vers les segments, quel que soit le nombre d'éléments.
+ * <br>
+ * Les éléments sont stockés en little-endian. Un fichier commence par un en-tête (identifiant, taille d'un élément, nombre d'éléments) mis à jour à chaque ajout,
+ * il peut donc être réouvert par {@link #open} sans relecture des éléments. Les octets au dela du dernier élément sont indéfinis.
+ * <br>
+ * Les méthodes read, readNext, readPrevious et forEach acceptent une instance à réutiliser (voir {@link RecordCodec#read(ByteBuffer, int, Object)})
+ * et permettent un parcours sans aucune allocation. Comme {@link FunctionalList}, une instance n'est pas thread-safe.
+ * @param <E>
+ */
+public final class OffHeapList<E> implements CastableList<E>, AutoCloseable {
+
+    private static final int MAGIC = 0x464c5354;
+    private static final int HEADER_SIZE = 16;
+    private static final int SIZE_OFFSET = 8;
+
+    /**
+     * Taille visée d'un segment (8 Mo)
+     */
+    private static final int SEGMENT_BYTES = 1 << 23;
+
+    private final RecordCodec<E> codec;
+    private final int recordSize;
+    private final int segmentRecords;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+
+    private int size;
+    private int internalIndex = 0;
+
+    private OffHeapList(RecordCodec<E> codec, FileChannel channel, MappedByteBuffer header, int size) {
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        if (recordSize < 1) throw new IllegalArgumentException("La taille d'un élément doit être positive! ["+ recordSize +"]");
+        this.segmentRecords = Math.max(1, SEGMENT_BYTES / recordSize);
+        this.channel = channel;
+        this.header = header;
+        this.size = size;
+    }
+
+    /**
+     * Crée une liste vide stockée dans des ByteBuffer directs
+     * @param codec Encodage des éléments
+     * @param <E>
+     * @return
+     */
+    public static <E> OffHeapList<E> allocate(RecordCodec<E> codec) {
+        return new OffHeapList<>(codec, null, null, 0);
+    }
+
+    /**
+     * Crée une liste vide stockée dans un fichier, écrasé s'il existe déjà
+     * @param file Fichier de stockage
+     * @param codec Encodage des éléments
+     * @param <E>
+     * @return
+     * @throws IOException
+     */
+    public static <E> OffHeapList<E> create(Path file, RecordCodec<E> codec) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.putInt(0, MAGIC);
+        header.putInt(4, codec.recordSize());
+        header.putLong(SIZE_OFFSET, 0);
+        return new OffHeapList<>(codec, channel, header, 0);
+    }
+
+    /**
+     * Réouvre une liste stockée dans un fichier créé par {@link #create}, les éléments ne sont pas relus
+     * @param file Fichier de stockage
+     * @param codec Encodage des éléments, de même taille que celui utilisé à la création
+     * @param <E>
+     * @return
+     * @throws IOException
+     */
+    public static <E> OffHeapList<E> open(Path file, RecordCodec<E> codec) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) throw new IllegalArgumentException("Fichier invalide! ["+ file +"]");
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) throw new IllegalArgumentException("Fichier invalide! ["+ file +"]");
+            if (header.getInt(4) != codec.recordSize()) {
+                throw new IllegalArgumentException("Taille d'élément incompatible! ["+ header.getInt(4) +" / "+ codec.recordSize() +"]");
+            }
+
+            OffHeapList<E> list = new OffHeapList<>(codec, channel, header, Math.toIntExact(header.getLong(SIZE_OFFSET)));
+            while ((long) list.segments.size() * list.segmentRecords < list.size) {
+                list.addSegment();
+            }
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public OffHeapList<E> addChain(E element) {
+        if (size == segments.size() * segmentRecords) {
+            try {
+                addSegment();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        codec.write(segments.get(size / segmentRecords), (size % segmentRecords) * recordSize, element);
+        size++;
+        if (header != null) header.putLong(SIZE_OFFSET, size);
+        return this;
+    }
+
+    public OffHeapList<E> addAllChain(Iterable<? extends E> elements) {
+        for (E element : elements) {
+            addChain(element);
+        }
+        return this;
+    }
+
+    /**
+     * Remplace un élément
+     * @param index Index de l'élément
+     * @param element Nouvel élément
+     */
+    public void set(int index, E element) {
+        checkIndex(index);
+        codec.write(segments.get(index / segmentRecords), (index % segmentRecords) * recordSize, element);
+    }
+
+    public E get(int index) {
+        checkIndex(index);
+        return codec.read(segments.get(index / segmentRecords), (index % segmentRecords) * recordSize);
+    }
+
+    /**
+     * Décode un élément dans une instance existante
+     * @param index Index de l'élément
+     * @param reuse Instance à réutiliser
+     * @return
+     */
+    public E read(int index, E reuse) {
+        checkIndex(index);
+        return codec.read(segments.get(index / segmentRecords), (index % segmentRecords) * recordSize, reuse);
+    }
+
+    @Override
+    public Optional<E> toOption(int index) {
+        return index < 0 || index >= size ? Optional.empty() : Optional.ofNullable(get(index));
+    }
+
+    @Override
+    public <T> Optional<T> toOption(int index, Class<T> type) {
+        return Optional.ofNullable(get(index, type));
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return index < 0 || index >= size ? null : type.cast(get(index));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return internalIndex < size;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return internalIndex - 1 >= 0;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) throw new NoSuchElementException("No other element!");
+        return get(internalIndex++);
+    }
+
+    /**
+     * Equivalent de {@link #next()} décodant l'élément dans une instance existante
+     * @param reuse Instance à réutiliser
+     * @return
+     */
+    public E readNext(E reuse) {
+        if (!hasNext()) throw new NoSuchElementException("No other element!");
+        return read(internalIndex++, reuse);
+    }
+
+    @Override
+    public <T> T next(Class<T> type) {
+        return type.cast(next());
+    }
+
+    @Override
+    public E previous() {
+        if (!hasPrevious()) throw new NoSuchElementException("No previous element!");
+        return get(--internalIndex);
+    }
+
+    /**
+     * Equivalent de {@link #previous()} décodant l'élément dans une instance existante
+     * @param reuse Instance à réutiliser
+     * @return
+     */
+    public E readPrevious(E reuse) {
+        if (!hasPrevious()) throw new NoSuchElementException("No previous element!");
+        return read(--internalIndex, reuse);
+    }
+
+    @Override
+    public <T> T previous(Class<T> type) {
+        return type.cast(previous());
+    }
+
+    @Override
+    public E get() {
+        return get(internalIndex);
+    }
+
+    @Override
+    public <T> T get(Class<T> type) {
+        return type.cast(get());
+    }
+
+    @Override
+    public E first() {
+        return get(0);
+    }
+
+    @Override
+    public E last() {
+        return get(size - 1);
+    }
+
+    /**
+     * Parcourt tous les éléments en les décodant successivement dans la même instance
+     * @param reuse Instance à réutiliser
+     * @param action Action appelée pour chaque élément
+     */
+    public void forEach(E reuse, Consumer<? super E> action) {
+        E current = reuse;
+        for (int s = 0, index = 0; index < size; s++) {
+            ByteBuffer segment = segments.get(s);
+            int end = Math.min(size - index, segmentRecords) * recordSize;
+            for (int offset = 0; offset < end; offset += recordSize, index++) {
+                current = codec.read(segment, offset, current);
+                action.accept(current);
+            }
+        }
+    }
+
+    /**
+     * Retourne une copie des éléments dans le tas
+     * @return
+     */
+    public FunctionalList<E> toFunctionalList() {
+        FunctionalList<E> list = new FunctionalList<>();
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    /**
+     * Ecrit sur disque les modifications d'une liste stockée dans un fichier
+     */
+    public void force() {
+        if (channel == null) return;
+        header.force();
+        for (ByteBuffer segment : segments) {
+            ((MappedByteBuffer) segment).force();
+        }
+    }
+
+    /**
+     * Libère les segments, la liste n'est plus utilisable ensuite. Une liste stockée dans un fichier est écrite sur disque.
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        segments.clear();
+        size = 0;
+        internalIndex = 0;
+        if (channel != null) channel.close();
+    }
+
+    private void addSegment() throws IOException {
+        int bytes = segmentRecords * recordSize;
+        ByteBuffer segment = channel == null
+            ? ByteBuffer.allocateDirect(bytes)
+            : channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + (long) segments.size() * bytes, bytes);
+        segments.add(segment.order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: "+ index +", Size: "+ size);
+    }
+}
@@ -0,0 +1,497 @@
+package com.java.common.structure;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Liste persistante et immuable, alternative à {@link FunctionalList} partageable sans copie.
+ * <br>
+ * Les éléments sont stockés dans un arbre de fanout 32 (RRB-tree simplifié : feuilles de 32 éléments au plus,
+ * noeuds internes munis d'une table des tailles cumulées). L'ajout ({@link #plus}), la modification ({@link #with})
+ * et la concaténation ({@link #concat}) sont en O(log32 n) et retournent une nouvelle liste partageant tous les noeuds non modifiés avec l'originale.
+ * <br>
+ * Le contenu d'une instance ne change jamais et peut être lu depuis plusieurs threads. Seul le curseur interne de {@link CastableList}
+ * est propre à l'instance : chaque lecteur utilisant le curseur doit obtenir sa propre vue par {@link #snapshot()}, en O(1).
+ * @param <E>
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements CastableList<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(EMPTY_ARRAY, 0, 0);
+
+    /**
+     * Feuille (Object[]) si height vaut 0, noeud interne ({@link Node}) sinon
+     */
+    private final Object root;
+    private final int height;
+    private final int size;
+
+    private int internalIndex = 0;
+    /**
+     * Feuille contenant la dernière position lue par le curseur, et index de son premier élément
+     */
+    private Object[] cursorLeaf = EMPTY_ARRAY;
+    private int cursorLeafStart = 0;
+
+    private PersistentVector(Object root, int height, int size) {
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    /**
+     * Retourne la liste vide
+     * @param <E>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Construit une liste contenant les éléments donnés, en O(n)
+     * @param elements Elements, dans l'ordre donné
+     * @param <E>
+     * @return
+     */
+    @SafeVarargs
+    public static <E> PersistentVector<E> of(E...elements) {
+        // copie élément par élément : le tableau varargs n'est jamais exposé
+        Object[] values = new Object[elements.length];
+        int i = 0;
+        for (E element : elements) {
+            values[i++] = element;
+        }
+        return fromArray(values);
+    }
+
+    /**
+     * Construit une liste contenant les éléments de la collection, en O(n)
+     * @param elements Elements, dans l'ordre d'itération de la collection
+     * @param <E>
+     * @return
+     */
+    public static <E> PersistentVector<E> from(Collection<? extends E> elements) {
+        return fromArray(elements.toArray());
+    }
+
+    /**
+     * Construit une liste à partir d'un tableau dont elle devient propriétaire
+     */
+    private static <E> PersistentVector<E> fromArray(Object[] values) {
+        if (values.length == 0) return empty();
+
+        // feuilles pleines, puis chaque niveau regroupe les noeuds du niveau inférieur par 32
+        Object[] level = new Object[(values.length + WIDTH - 1) / WIDTH];
+        for (int i = 0; i < level.length; i++) {
+            level[i] = Arrays.copyOfRange(values, i * WIDTH, Math.min(values.length, (i + 1) * WIDTH));
+        }
+        int height = 0;
+        while (level.length > 1) {
+            Object[] parents = new Object[(level.length + WIDTH - 1) / WIDTH];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = new Node(Arrays.copyOfRange(level, i * WIDTH, Math.min(level.length, (i + 1) * WIDTH)), height);
+            }
+            level = parents;
+            height++;
+        }
+        return new PersistentVector<>(level[0], height, values.length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        Object node = root;
+        for (int level = height; level > 0; level--) {
+            Node n = (Node) node;
+            int child = n.childIndex(index, level);
+            if (child > 0) index -= n.sizes[child - 1];
+            node = n.children[child];
+        }
+        return (E) ((Object[]) node)[index];
+    }
+
+    /**
+     * Retourne une nouvelle liste complétée d'un élément en fin de liste
+     * @param element Elément à ajouter
+     * @return
+     */
+    public PersistentVector<E> plus(E element) {
+        if (size == 0) return new PersistentVector<>(new Object[] {element}, 0, 1);
+
+        Object appended = append(root, height, element);
+        if (appended != null) return new PersistentVector<>(appended, height, size + 1);
+        // racine pleine : l'arbre grandit d'un niveau
+        Node newRoot = new Node(new Object[] {root, path(height, element)}, height);
+        return new PersistentVector<>(newRoot, height + 1, size + 1);
+    }
+
+    /**
+     * Retourne une nouvelle liste dont l'élément à l'index donné est remplacé
+     * @param index Index de l'élément
+     * @param element Nouvel élément
+     * @return
+     */
+    public PersistentVector<E> with(int index, E element) {
+        checkIndex(index);
+        return new PersistentVector<>(update(root, height, index, element), height, size);
+    }
+
+    /**
+     * Retourne une nouvelle liste contenant les éléments de cette liste suivis de ceux de l'autre liste
+     * @param other Liste à concaténer
+     * @return
+     */
+    public PersistentVector<E> concat(PersistentVector<? extends E> other) {
+        if (other.size == 0) return this;
+        if (size == 0) return new PersistentVector<>(other.root, other.height, other.size);
+
+        Object[] merged = merge(root, height, other.root, other.height);
+        int mergedHeight = Math.max(height, other.height);
+        if (merged.length == 2) return new PersistentVector<>(new Node(merged, mergedHeight), mergedHeight + 1, size + other.size);
+
+        // une racine n'ayant qu'un seul enfant est retirée
+        Object newRoot = merged[0];
+        while (mergedHeight > 0 && ((Node) newRoot).children.length == 1) {
+            newRoot = ((Node) newRoot).children[0];
+            mergedHeight--;
+        }
+        return new PersistentVector<>(newRoot, mergedHeight, size + other.size);
+    }
+
+    /**
+     * Retourne une vue de cette liste partageant son contenu, dont le curseur interne est replacé au début
+     * @return
+     */
+    public PersistentVector<E> snapshot() {
+        return new PersistentVector<>(root, height, size);
+    }
+
+    /**
+     * Retourne une copie mutable de la liste
+     * @return
+     */
+    public FunctionalList<E> toFunctionalList() {
+        return FunctionalList.convert(this);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int index = 0;
+            private int leafStart = 0;
+            private Object[] leaf = size == 0 ? null : leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) throw new NoSuchElementException("No other element!");
+                if (index - leafStart >= leaf.length) {
+                    leafStart = index;
+                    leaf = leafFor(index);
+                }
+                return (E) leaf[index++ - leafStart];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        int index = 0;
+        while (index < size) {
+            Object[] leaf = leafFor(index);
+            for (Object element : leaf) {
+                action.accept((E) element);
+            }
+            index += leaf.length;
+        }
+    }
+
+    @Override
+    public Optional<E> toOption(int index) {
+        return index < 0 || index >= size ? Optional.empty() : Optional.ofNullable(get(index));
+    }
+
+    @Override
+    public <T> Optional<T> toOption(int index, Class<T> type) {
+        return Optional.ofNullable(get(index, type));
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return index < 0 || index >= size ? null : type.cast(get(index));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return internalIndex < size;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return internalIndex - 1 >= 0;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) throw new NoSuchElementException("No other element!");
+        return cursorGet(internalIndex++);
+    }
+
+    @Override
+    public <T> T next(Class<T> type) {
+        return type.cast(next());
+    }
+
+    @Override
+    public E previous() {
+        if (!hasPrevious()) throw new NoSuchElementException("No previous element!");
+        return cursorGet(--internalIndex);
+    }
+
+    @Override
+    public <T> T previous(Class<T> type) {
+        return type.cast(previous());
+    }
+
+    @Override
+    public E get() {
+        return cursorGet(internalIndex);
+    }
+
+    @Override
+    public <T> T get(Class<T> type) {
+        return type.cast(get());
+    }
+
+    @Override
+    public E first() {
+        return get(0);
+    }
+
+    @Override
+    public E last() {
+        return get(size - 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: "+ index +", Size: "+ size);
+    }
+
+    /**
+     * Lecture par le curseur : la feuille courante est conservée, seul un changement de feuille parcourt l'arbre
+     */
+    @SuppressWarnings("unchecked")
+    private E cursorGet(int index) {
+        int offset = index - cursorLeafStart;
+        if (offset < 0 || offset >= cursorLeaf.length) {
+            checkIndex(index);
+            Object node = root;
+            offset = index;
+            for (int level = height; level > 0; level--) {
+                Node n = (Node) node;
+                int child = n.childIndex(offset, level);
+                if (child > 0) offset -= n.sizes[child - 1];
+                node = n.children[child];
+            }
+            cursorLeaf = (Object[]) node;
+            cursorLeafStart = index - offset;
+        }
+        return (E) cursorLeaf[offset];
+    }
+
+    /**
+     * Retourne la feuille contenant l'élément à l'index donné
+     */
+    private Object[] leafFor(int index) {
+        Object node = root;
+        for (int level = height; level > 0; level--) {
+            Node n = (Node) node;
+            int child = n.childIndex(index, level);
+            if (child > 0) index -= n.sizes[child - 1];
+            node = n.children[child];
+        }
+        return (Object[]) node;
+    }
+
+    /**
+     * Ajoute un élément à la fin du sous-arbre, retourne null si celui-ci est plein
+     */
+    private static Object append(Object node, int level, Object element) {
+        if (level == 0) {
+            Object[] leaf = (Object[]) node;
+            if (leaf.length == WIDTH) return null;
+            Object[] copy = Arrays.copyOf(leaf, leaf.length + 1);
+            copy[leaf.length] = element;
+            return copy;
+        }
+
+        Node n = (Node) node;
+        int last = n.children.length - 1;
+        Object child = append(n.children[last], level - 1, element);
+        if (child != null) return n.replace(last, child);
+        if (n.children.length == WIDTH) return null;
+
+        Object[] children = Arrays.copyOf(n.children, n.children.length + 1);
+        children[n.children.length] = path(level - 1, element);
+        return new Node(children, level - 1);
+    }
+
+    /**
+     * Construit un sous-arbre de la hauteur donnée contenant un seul élément
+     */
+    private static Object path(int level, Object element) {
+        Object node = new Object[] {element};
+        for (int i = 0; i < level; i++) {
+            node = new Node(new Object[] {node}, i);
+        }
+        return node;
+    }
+
+    private static Object update(Object node, int level, int index, Object element) {
+        if (level == 0) {
+            Object[] copy = ((Object[]) node).clone();
+            copy[index] = element;
+            return copy;
+        }
+
+        Node n = (Node) node;
+        int child = n.childIndex(index, level);
+        int childOffset = child > 0 ? n.sizes[child - 1] : 0;
+        return n.replace(child, update(n.children[child], level - 1, index - childOffset, element));
+    }
+
+    /**
+     * Fusionne deux sous-arbres le long de leur bord commun (bord droit de left, bord gauche de right) :
+     * seuls les noeuds de ce bord sont recréés, et regroupés par 32 au plus (voir {@link #pack}).
+     * @return Un ou deux noeuds de hauteur max(leftHeight, rightHeight)
+     */
+    private static Object[] merge(Object left, int leftHeight, Object right, int rightHeight) {
+        if (leftHeight > rightHeight) {
+            Object[] children = ((Node) left).children;
+            Object[] middle = merge(children[children.length - 1], leftHeight - 1, right, rightHeight);
+            return pack(concat(children, 0, children.length - 1, middle, EMPTY_ARRAY, 0), leftHeight - 1);
+        }
+        if (leftHeight < rightHeight) {
+            Object[] children = ((Node) right).children;
+            Object[] middle = merge(left, leftHeight, children[0], rightHeight - 1);
+            return pack(concat(EMPTY_ARRAY, 0, 0, middle, children, 1), rightHeight - 1);
+        }
+        if (leftHeight == 0) {
+            Object[] values = concat((Object[]) left, 0, ((Object[]) left).length, (Object[]) right, EMPTY_ARRAY, 0);
+            if (values.length <= WIDTH) return new Object[] {values};
+            int half = (values.length + 1) / 2;
+            return new Object[] {Arrays.copyOf(values, half), Arrays.copyOfRange(values, half, values.length)};
+        }
+
+        Object[] leftChildren = ((Node) left).children;
+        Object[] rightChildren = ((Node) right).children;
+        Object[] middle = merge(leftChildren[leftChildren.length - 1], leftHeight - 1, rightChildren[0], rightHeight - 1);
+        return pack(concat(leftChildren, 0, leftChildren.length - 1, middle, rightChildren, 1), leftHeight - 1);
+    }
+
+    private static Object[] concat(Object[] head, int headFrom, int headTo, Object[] middle, Object[] tail, int tailFrom) {
+        int headLength = headTo - headFrom;
+        Object[] result = new Object[headLength + middle.length + tail.length - tailFrom];
+        System.arraycopy(head, headFrom, result, 0, headLength);
+        System.arraycopy(middle, 0, result, headLength, middle.length);
+        System.arraycopy(tail, tailFrom, result, headLength + middle.length, tail.length - tailFrom);
+        return result;
+    }
+
+    /**
+     * Regroupe des noeuds de hauteur childHeight en un ou deux noeuds parents (au plus 64 noeuds en entrée).
+     * En cas de débordement, les noeuds sont répartis équitablement afin que chaque parent reste au moins à moitié plein.
+     */
+    private static Object[] pack(Object[] children, int childHeight) {
+        if (children.length <= WIDTH) return new Object[] {new Node(children, childHeight)};
+        int half = (children.length + 1) / 2;
+        return new Object[] {
+            new Node(Arrays.copyOf(children, half), childHeight),
+            new Node(Arrays.copyOfRange(children, half, children.length), childHeight)
+        };
+    }
+
+    /**
+     * Noeud interne : enfants et tailles cumulées des sous-arbres, qui permettent de trouver l'enfant d'un index lorsque les sous-arbres ne sont pas pleins.
+     */
+    private static final class Node {
+
+        private final Object[] children;
+        private final int[] sizes;
+        private final int childHeight;
+
+        Node(Object[] children, int childHeight) {
+            this.children = children;
+            this.childHeight = childHeight;
+            this.sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += sizeOf(children[i], childHeight);
+                sizes[i] = total;
+            }
+        }
+
+        private Node(Object[] children, int[] sizes, int childHeight) {
+            this.children = children;
+            this.sizes = sizes;
+            this.childHeight = childHeight;
+        }
+
+        /**
+         * Index de l'enfant contenant l'élément, en partant de l'estimation par radix qui est exacte lorsque les sous-arbres sont pleins
+         */
+        int childIndex(int index, int level) {
+            int shift = BITS * level;
+            int child = shift < Integer.SIZE ? Math.min(index >>> shift, children.length - 1) : 0;
+            while (sizes[child] <= index) {
+                child++;
+            }
+            return child;
+        }
+
+        /**
+         * Retourne une copie du noeud dont l'enfant à l'index donné est remplacé, tailles cumulées mises à jour
+         */
+        Node replace(int index, Object child) {
+            Object[] nextChildren = children.clone();
+            nextChildren[index] = child;
+            int[] nextSizes = sizes.clone();
+            int delta = sizeOf(child, childHeight) - sizeOf(children[index], childHeight);
+            for (int i = index; i < nextSizes.length; i++) {
+                nextSizes[i] += delta;
+            }
+            return new Node(nextChildren, nextSizes, childHeight);
+        }
+
+        /**
+         * Nombre d'éléments d'un sous-arbre (feuille si height vaut 0)
+         */
+        static int sizeOf(Object node, int height) {
+            if (height == 0) return ((Object[]) node).length;
+            int[] sizes = ((Node) node).sizes;
+            return sizes[sizes.length - 1];
+        }
+    }
+}
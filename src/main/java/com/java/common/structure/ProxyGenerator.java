@@ -10,25 +10,63 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
+/**
+ * Proxy en lecture seule d'un tableau associatif, au travers des getter d'une interface.
+ * <br>
+ * L'analyse des getter (nom de la propriété, conversion selon le type de retour) est faite une seule fois par interface,
+ * dans une table de dispatch mise en cache. A la création, les valeurs utilisées par l'interface sont copiées dans un tableau :
+ * un appel de getter se résume ensuite à une recherche dans la table et une lecture dans le tableau.
+ * <br>
+ * Les conversions d'une valeur immuable (String ou type primitif boxé) vers un type immuable (String, Integer, Long, Float, Double)
+ * sont faites au premier appel puis conservées. Les autres (vers Date, ou depuis une valeur mutable comme un StringBuilder
+ * ou un AtomicInteger) sont faites à chaque appel, afin de refléter l'état courant de la valeur.
+ */
 public class ProxyGenerator {
 
-    private HashMap<String, Object> properties;
+    private static final Pattern DATE_PATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern DIGITS_PATTERN = Pattern.compile("\\d*");
 
-    private ProxyGenerator(Map<String, Object> properties) {
-        this.properties = new HashMap<>(properties);
+    private static final ClassValue<Dispatch> DISPATCHES = new ClassValue<Dispatch>() {
+        @Override
+        protected Dispatch computeValue(Class<?> type) {
+            return new Dispatch(type);
+        }
+    };
+
+    private static final Object NOT_CONVERTED = new Object();
+
+    private final Dispatch dispatch;
+    private final Object[] values;
+    private final Object[] converted;
+
+    private ProxyGenerator(Map<String, Object> properties, Dispatch dispatch) {
+        this.dispatch = dispatch;
+        this.values = dispatch.values(properties);
+        this.converted = new Object[dispatch.accessorCount()];
+        Arrays.fill(converted, NOT_CONVERTED);
     }
 
     public InvocationHandler handler() {
         return (Object o, Method method, Object[] objects) -> {
-            if (StringUtils.startsWith(method.getName(), "get")) {
-                String attributeName = WordUtils.uncapitalize(method.getName().substring(3));
-                Object value = properties.getOrDefault(attributeName, null);
-                return cast(value, method.getReturnType());
+            Accessor accessor = dispatch.accessor(method);
+            if (accessor != null) {
+                Object raw = values[accessor.slot];
+                if (!accessor.cacheable || !isImmutable(raw)) return accessor.converter.apply(raw);
+
+                Object value = converted[accessor.index];
+                if (value == NOT_CONVERTED) {
+                    value = accessor.converter.apply(raw);
+                    converted[accessor.index] = value;
+                }
+                return value;
             }
             throw new UnsupportedOperationException("Uniquement les getter sont pris en compte! ["+ method.getName() +"]");
         };
@@ -47,71 +85,139 @@ public class ProxyGenerator {
         return (T) Proxy.newProxyInstance(
             type.getClassLoader(),
             new Class<?>[]{type},
-            new ProxyGenerator(properties).handler()
+            new ProxyGenerator(properties, DISPATCHES.get(type)).handler()
         );
     }
 
-    private <T> T cast(Object source, Class<T> targetType) {
+    /**
+     * Vérifie si la conversion d'une valeur peut être conservée : la valeur ne doit pas pouvoir changer après la création du proxy
+     */
+    private static boolean isImmutable(Object raw) {
+        return raw == null || raw instanceof String
+            || raw instanceof Integer || raw instanceof Long || raw instanceof Double || raw instanceof Float
+            || raw instanceof Short || raw instanceof Byte || raw instanceof Boolean || raw instanceof Character;
+    }
+
+    /**
+     * Retourne la conversion associée au type de retour d'un getter
+     */
+    private static Function<Object, ?> converter(Class<?> targetType) {
         switch (targetType.getSimpleName()) {
-            case "Date": return (T) castToDate(source);
-            case "Integer": case "int": return (T) castToInt(source);
-            case "Long": case "long": return (T) castToLong(source);
-            case "Float": case "float": return (T) castToFloat(source);
-            case "Double": case "double": return (T) castToDouble(source);
+            case "Date": return ProxyGenerator::castToDate;
+            case "Integer": case "int": return ProxyGenerator::castToInt;
+            case "Long": case "long": return ProxyGenerator::castToLong;
+            case "Float": case "float": return ProxyGenerator::castToFloat;
+            case "Double": case "double": return ProxyGenerator::castToDouble;
         }
         // string
-        return source != null? (T)source.toString(): null;
+        return source -> source != null? source.toString(): null;
     }
 
-    private Date castToDate(Object obj) {
+    private static Date castToDate(Object obj) {
         Date d = obj instanceof Date? (Date) obj:
             obj instanceof Long? new Date((Long) obj):
-            obj instanceof String && Pattern.matches("\\d{4}-\\d{2}-\\d{2}", (String) obj)? string2Date((String) obj):
+            obj instanceof String && DATE_PATTERN.matcher((String) obj).matches()? string2Date((String) obj):
             null;
         if (obj != null && d == null)
             throw new UnsupportedOperationException("Impossible de cast "+ obj.getClass().getSimpleName() +" ("+ obj +") en Date!");
         return d;
     }
 
-    private Integer castToInt(Object obj) {
+    private static Integer castToInt(Object obj) {
         Integer i = obj instanceof Number? ((Number) obj).intValue():
-            obj instanceof String && Pattern.matches("\\d*", (String) obj)? Integer.parseInt((String) obj):
+            obj instanceof String && DIGITS_PATTERN.matcher((String) obj).matches()? Integer.parseInt((String) obj):
             null;
         if (obj != null && i == null)
             throw new UnsupportedOperationException("Impossible de cast "+ obj.getClass().getSimpleName() +" ("+ obj +") en Integer!");
         return i;
     }
 
-    private Long castToLong(Object obj) {
+    private static Long castToLong(Object obj) {
         Long l = obj instanceof Number? ((Number) obj).longValue():
-            obj instanceof String && Pattern.matches("\\d*", (String) obj)? Long.parseLong((String) obj):
+            obj instanceof String && DIGITS_PATTERN.matcher((String) obj).matches()? Long.parseLong((String) obj):
             null;
         if (obj != null && l == null)
             throw new UnsupportedOperationException("Impossible de cast "+ obj.getClass().getSimpleName() +" ("+ obj +") en Long!");
         return l;
     }
 
-    private Float castToFloat(Object obj) {
+    private static Float castToFloat(Object obj) {
         Float f = obj instanceof Number? ((Number) obj).floatValue():
-            obj instanceof String && Pattern.matches("\\d*", (String) obj)? Float.parseFloat((String) obj):
+            obj instanceof String && DIGITS_PATTERN.matcher((String) obj).matches()? Float.parseFloat((String) obj):
             null;
         if (obj != null && f == null)
             throw new UnsupportedOperationException("Impossible de cast "+ obj.getClass().getSimpleName() +" ("+ obj +") en Float!");
         return f;
     }
 
-    private Double castToDouble(Object obj) {
+    private static Double castToDouble(Object obj) {
         Double d = obj instanceof Number? ((Number) obj).doubleValue():
-            obj instanceof String && Pattern.matches("\\d*", (String) obj)? Double.parseDouble((String) obj):
+            obj instanceof String && DIGITS_PATTERN.matcher((String) obj).matches()? Double.parseDouble((String) obj):
             null;
         if (obj != null && d == null)
             throw new UnsupportedOperationException("Impossible de cast "+ obj.getClass().getSimpleName() +" ("+ obj +") en Double!");
         return d;
     }
 
-    private Date string2Date(String strDate) {
+    private static Date string2Date(String strDate) {
 		LocalDate date = LocalDate.parse(strDate, DateTimeFormatter.ISO_DATE);
 		Instant instant = date.atStartOfDay(ZoneId.systemDefault()).toInstant();
 		return Date.from(instant);
     }
+
+    /**
+     * Getter analysé : emplacement de la valeur de la propriété, conversion vers le type de retour
+     * et emplacement de la valeur convertie lorsque le type de retour est immuable
+     */
+    private static final class Accessor {
+        private final int index;
+        private final int slot;
+        private final Function<Object, ?> converter;
+        private final boolean cacheable;
+
+        private Accessor(int index, int slot, Class<?> returnType) {
+            this.index = index;
+            this.slot = slot;
+            this.converter = converter(returnType);
+            this.cacheable = !"Date".equals(returnType.getSimpleName());
+        }
+    }
+
+    /**
+     * Table de dispatch d'une interface : un {@link Accessor} par getter, les getter d'une même propriété partageant le même emplacement
+     */
+    private static final class Dispatch {
+        private final Map<Method, Accessor> accessors = new HashMap<>();
+        private final String[] keys;
+
+        private Dispatch(Class<?> type) {
+            Map<String, Integer> slots = new LinkedHashMap<>();
+            for (Method method : type.getMethods()) {
+                if (!StringUtils.startsWith(method.getName(), "get")) continue;
+                String attributeName = WordUtils.uncapitalize(method.getName().substring(3));
+                Integer slot = slots.computeIfAbsent(attributeName, key -> slots.size());
+                accessors.put(method, new Accessor(accessors.size(), slot, method.getReturnType()));
+            }
+            this.keys = slots.keySet().toArray(new String[0]);
+        }
+
+        private Accessor accessor(Method method) {
+            return accessors.get(method);
+        }
+
+        private int accessorCount() {
+            return accessors.size();
+        }
+
+        /**
+         * Copie les valeurs des propriétés utilisées par l'interface
+         */
+        private Object[] values(Map<String, Object> properties) {
+            Object[] values = new Object[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                values[i] = properties.get(keys[i]);
+            }
+            return values;
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package com.java.common.structure;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodage d'un élément de taille fixe, utilisé par {@link OffHeapList}.
+ * <br>
+ * Les lectures et écritures doivent utiliser les accesseurs absolus du ByteBuffer (getLong(int), putLong(int, long)...)
+ * et ne jamais modifier sa position ni sa limite.
+ * @param <E>
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * Retourne la taille d'un élément encodé, en octets
+     * @return
+     */
+    int recordSize();
+
+    /**
+     * Encode un élément
+     * @param buffer Buffer de destination
+     * @param offset Position du premier octet de l'élément
+     * @param value Elément à encoder
+     */
+    void write(ByteBuffer buffer, int offset, E value);
+
+    /**
+     * Décode un élément
+     * @param buffer Buffer source
+     * @param offset Position du premier octet de l'élément
+     * @return
+     */
+    E read(ByteBuffer buffer, int offset);
+
+    /**
+     * Décode un élément dans une instance existante, afin de parcourir une liste sans allocation.
+     * <br>
+     * Par défaut l'instance est ignorée et un nouvel élément est créé, les codecs d'objets mutables doivent redéfinir cette méthode.
+     * @param buffer Buffer source
+     * @param offset Position du premier octet de l'élément
+     * @param reuse Instance à réutiliser
+     * @return L'instance réutilisée ou un nouvel élément
+     */
+    default E read(ByteBuffer buffer, int offset, E reuse) {
+        return read(buffer, offset);
+    }
+
+    static RecordCodec<Integer> ofInt() {
+        return new RecordCodec<Integer>() {
+            @Override
+            public int recordSize() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer value) {
+                buffer.putInt(offset, value);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    static RecordCodec<Long> ofLong() {
+        return new RecordCodec<Long>() {
+            @Override
+            public int recordSize() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long value) {
+                buffer.putLong(offset, value);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    static RecordCodec<Double> ofDouble() {
+        return new RecordCodec<Double>() {
+            @Override
+            public int recordSize() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double value) {
+                buffer.putDouble(offset, value);
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.java.common.structure;
+
+/**
+ * Etape mesurée d'un traitement, ouverte par {@link Chrono#span(String)} et fermée par un try-with-resources.
+ * <br>
+ * Les spans ouverts dans un span en deviennent les enfants. A la fermeture, la durée totale et la durée propre
+ * (durée totale moins celle des enfants) sont enregistrées, puis agrégées par {@link Chrono#spanReport()}.
+ * <br>
+ * Les instances sont réutilisées par le thread qui les a ouvertes : un span ne doit être utilisé que dans son bloc
+ * try-with-resources, par ce thread.
+ */
+public final class Span implements AutoCloseable {
+
+    private final SpanStack stack;
+    SpanPath path;
+    long startNanos;
+    long childNanos;
+
+    Span(SpanStack stack) {
+        this.stack = stack;
+    }
+
+    /**
+     * Retourne le nom du span
+     * @return
+     */
+    public String getName() {
+        return path.getName();
+    }
+
+    /**
+     * Retourne le chemin complet du span, sous la forme "parent/enfant"
+     * @return
+     */
+    public String getPath() {
+        return path.path();
+    }
+
+    /**
+     * Retourne la durée écoulée depuis l'ouverture du span, en nanosecondes
+     * @return
+     */
+    public long elapsed() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Ferme le span. Sans effet si le span n'est pas le dernier ouvert par le thread courant.
+     */
+    @Override
+    public void close() {
+        stack.close(this);
+    }
+
+    @Override
+    public String toString() {
+        return getPath();
+    }
+}
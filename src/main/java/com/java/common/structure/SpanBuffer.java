@@ -0,0 +1,80 @@
+package com.java.common.structure;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tampon circulaire des derniers spans terminés, partagé par tous les threads.
+ * <br>
+ * Les champs de chaque span sont écrits dans des tableaux préalloués : enregistrer un span n'alloue rien.
+ * Une fois plein, les spans les plus anciens sont écrasés. Chaque case porte un numéro de séquence
+ * permettant à la lecture d'ignorer les cases en cours d'écriture, sans bloquer les écrivains.
+ */
+final class SpanBuffer {
+
+    private static final int FIELDS = 4;
+    private static final long WRITING = -1;
+
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray fields;
+
+    SpanBuffer(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacité doit être une puissance de 2! ["+ capacity +"]");
+        }
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.fields = new AtomicLongArray(capacity * FIELDS);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, WRITING);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    void record(SpanPath path, long startNanos, long totalNanos, long selfNanos) {
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) sequence & mask;
+        int offset = slot * FIELDS;
+        sequences.set(slot, WRITING);
+        fields.lazySet(offset, path.getId());
+        fields.lazySet(offset + 1, startNanos);
+        fields.lazySet(offset + 2, totalNanos);
+        fields.lazySet(offset + 3, selfNanos);
+        sequences.lazySet(slot, sequence);
+    }
+
+    /**
+     * Parcourt les spans présents, du plus ancien au plus récent
+     */
+    void forEach(Visitor visitor) {
+        long end = cursor.get();
+        long start = Math.max(0, end - capacity());
+        for (long sequence = start; sequence < end; sequence++) {
+            int slot = (int) sequence & mask;
+            int offset = slot * FIELDS;
+            if (sequences.get(slot) != sequence) continue;
+            long pathId = fields.get(offset);
+            long startNanos = fields.get(offset + 1);
+            long totalNanos = fields.get(offset + 2);
+            long selfNanos = fields.get(offset + 3);
+            if (sequences.get(slot) != sequence) continue;
+            visitor.visit(SpanPath.byId((int) pathId), startNanos, totalNanos, selfNanos);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i <= mask; i++) {
+            sequences.set(i, WRITING);
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(SpanPath path, long startNanos, long totalNanos, long selfNanos);
+    }
+}
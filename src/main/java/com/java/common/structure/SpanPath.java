@@ -0,0 +1,112 @@
+package com.java.common.structure;
+
+import java.util.Arrays;
+
+/**
+ * Chemin d'un span dans l'arbre des appels (racine / parent / enfant), partagé par tous les threads.
+ * <br>
+ * Un chemin est créé à la première ouverture d'un span de ce nom sous ce parent, puis retrouvé sans allocation.
+ * Les noms de span doivent donc être des constantes : chaque nom distinct crée un chemin conservé jusqu'à l'arrêt de la JVM.
+ */
+final class SpanPath {
+
+    private static final SpanPath[] NO_CHILDREN = new SpanPath[0];
+    private static final Object REGISTRY_LOCK = new Object();
+    private static volatile SpanPath[] registry = new SpanPath[64];
+    private static int count;
+
+    static final SpanPath ROOT = new SpanPath(null, "");
+
+    private final SpanPath parent;
+    private final String name;
+    private final int id;
+    private final int depth;
+    private volatile SpanPath[] children = NO_CHILDREN;
+    private String path;
+
+    private SpanPath(SpanPath parent, String name) {
+        this.parent = parent;
+        this.name = name;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+        synchronized (REGISTRY_LOCK) {
+            SpanPath[] paths = registry;
+            if (count == paths.length) paths = Arrays.copyOf(paths, count << 1);
+            this.id = count;
+            paths[count++] = this;
+            registry = paths;
+        }
+    }
+
+    /**
+     * Retourne le chemin enfant portant ce nom, en le créant si nécessaire
+     */
+    SpanPath child(String name) {
+        SpanPath child = find(children, name);
+        if (child != null) return child;
+        synchronized (this) {
+            SpanPath[] current = children;
+            child = find(current, name);
+            if (child == null) {
+                child = new SpanPath(this, name);
+                SpanPath[] copy = Arrays.copyOf(current, current.length + 1);
+                copy[current.length] = child;
+                children = copy;
+            }
+            return child;
+        }
+    }
+
+    private static SpanPath find(SpanPath[] paths, String name) {
+        for (SpanPath path : paths) {
+            if (path.name == name || path.name.equals(name)) return path;
+        }
+        return null;
+    }
+
+    static SpanPath byId(int id) {
+        return registry[id];
+    }
+
+    static int count() {
+        synchronized (REGISTRY_LOCK) {
+            return count;
+        }
+    }
+
+    SpanPath getParent() {
+        return parent;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    SpanPath[] getChildren() {
+        return children;
+    }
+
+    /**
+     * Retourne le chemin complet, sous la forme "parent/enfant"
+     */
+    String path() {
+        String result = path;
+        if (result == null) {
+            result = parent == null || parent.parent == null ? name : parent.path() + "/" + name;
+            path = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return path();
+    }
+}
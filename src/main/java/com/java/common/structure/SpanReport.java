@@ -0,0 +1,148 @@
+package com.java.common.structure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Arbre des appels agrégé à partir des derniers spans terminés ({@link Chrono#spanReport()}).
+ * <br>
+ * Chaque entrée regroupe les spans d'un même chemin : nombre, durée totale et durée propre (hors enfants).
+ * Les entrées sont ordonnées en profondeur, les enfants d'un même parent par durée totale décroissante.
+ */
+public final class SpanReport {
+
+    private final List<Entry> entries;
+
+    private SpanReport(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    static SpanReport of(SpanBuffer buffer) {
+        int pathCount = SpanPath.count();
+        long[] counts = new long[pathCount];
+        long[] totals = new long[pathCount];
+        long[] selfs = new long[pathCount];
+        buffer.forEach((path, startNanos, totalNanos, selfNanos) -> {
+            int id = path.getId();
+            if (id >= pathCount) return;
+            counts[id]++;
+            totals[id] += totalNanos;
+            selfs[id] += selfNanos;
+        });
+
+        // un chemin est conservé si lui ou un de ses descendants a été mesuré
+        boolean[] kept = new boolean[pathCount];
+        for (int id = pathCount - 1; id > 0; id--) {
+            if (counts[id] > 0 || kept[id]) {
+                kept[id] = true;
+                kept[SpanPath.byId(id).getParent().getId()] = true;
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        addChildren(SpanPath.ROOT, kept, counts, totals, selfs, entries);
+        return new SpanReport(Collections.unmodifiableList(entries));
+    }
+
+    private static void addChildren(SpanPath parent, boolean[] kept, long[] counts, long[] totals, long[] selfs, List<Entry> entries) {
+        SpanPath[] children = Arrays.stream(parent.getChildren())
+            .filter(child -> child.getId() < kept.length && kept[child.getId()])
+            .sorted(Comparator.comparingLong((SpanPath child) -> totals[child.getId()]).reversed())
+            .toArray(SpanPath[]::new);
+        for (SpanPath child : children) {
+            int id = child.getId();
+            entries.add(new Entry(child, counts[id], totals[id], selfs[id]));
+            addChildren(child, kept, counts, totals, selfs, entries);
+        }
+    }
+
+    /**
+     * Retourne les entrées de l'arbre, en profondeur d'abord
+     * @return
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Entry entry : entries) {
+            for (int i = 1; i < entry.getDepth(); i++) {
+                sb.append("  ");
+            }
+            sb.append(entry.getName())
+                .append(" count=").append(entry.getCount())
+                .append(", total=").append(Chrono.humanFormatNanos(entry.getTotalNanos()))
+                .append(", self=").append(Chrono.humanFormatNanos(entry.getSelfNanos()))
+                .append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Agrégat des spans d'un chemin
+     */
+    public static final class Entry {
+
+        private final SpanPath path;
+        private final long count;
+        private final long totalNanos;
+        private final long selfNanos;
+
+        private Entry(SpanPath path, long count, long totalNanos, long selfNanos) {
+            this.path = path;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.selfNanos = selfNanos;
+        }
+
+        /**
+         * Retourne le chemin complet, sous la forme "parent/enfant"
+         * @return
+         */
+        public String getPath() {
+            return path.path();
+        }
+
+        public String getName() {
+            return path.getName();
+        }
+
+        /**
+         * Retourne la profondeur du chemin, 1 pour un span de premier niveau
+         * @return
+         */
+        public int getDepth() {
+            return path.getDepth();
+        }
+
+        /**
+         * Retourne le nombre de spans terminés sur ce chemin (0 si seuls des descendants ont été mesurés)
+         * @return
+         */
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Retourne la durée propre cumulée : durée totale moins celle des spans enfants du même thread
+         * @return
+         */
+        public long getSelfNanos() {
+            return selfNanos;
+        }
+
+        @Override
+        public String toString() {
+            return getPath() + " count=" + count + ", total=" + Chrono.humanFormatNanos(totalNanos) + ", self=" + Chrono.humanFormatNanos(selfNanos);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.java.common.structure;
+
+import java.util.Arrays;
+
+/**
+ * Pile des spans ouverts par un thread. Les instances de {@link Span} sont conservées d'une ouverture à l'autre.
+ * <br>
+ * La base est le chemin sous lequel s'ouvrent les spans de premier niveau : la racine, ou le chemin du span
+ * ayant soumis la tache en cours d'execution (voir {@link Chrono#propagate(Runnable)}).
+ */
+final class SpanStack {
+
+    private final SpanBuffer buffer;
+    private Span[] frames = new Span[8];
+    private int depth;
+    private SpanPath base = SpanPath.ROOT;
+
+    SpanStack(SpanBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    SpanPath current() {
+        return depth == 0 ? base : frames[depth - 1].path;
+    }
+
+    Span open(String name) {
+        SpanPath path = current().child(name);
+        if (depth == frames.length) frames = Arrays.copyOf(frames, depth << 1);
+        Span span = frames[depth];
+        if (span == null) {
+            span = new Span(this);
+            frames[depth] = span;
+        }
+        span.path = path;
+        span.childNanos = 0;
+        depth++;
+        span.startNanos = System.nanoTime();
+        return span;
+    }
+
+    void close(Span span) {
+        if (depth == 0 || frames[depth - 1] != span) return;
+        long totalNanos = System.nanoTime() - span.startNanos;
+        depth--;
+        if (depth > 0) frames[depth - 1].childNanos += totalNanos;
+        buffer.record(span.path, span.startNanos, totalNanos, totalNanos - span.childNanos);
+    }
+
+    /**
+     * Execute la tache avec le chemin donné comme base, puis restaure la pile
+     */
+    void runUnder(SpanPath path, Runnable task) {
+        SpanPath previousBase = base;
+        int previousDepth = depth;
+        base = path;
+        depth = 0;
+        Span[] previousFrames = null;
+        if (previousDepth > 0) {
+            // tache executée par le thread qui l'a soumise (executor direct) : ses spans ouverts sont mis de coté
+            previousFrames = frames;
+            frames = new Span[8];
+        }
+        try {
+            task.run();
+        } finally {
+            if (previousFrames != null) frames = previousFrames;
+            depth = previousDepth;
+            base = previousBase;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.java.common.functional.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evénements Java Flight Recorder émis par la librairie.
+ * <br>
+ * Version Java 11 : chaque méthode vérifie que son événement est activé dans l'enregistrement en cours avant de le remplir.
+ * Sans enregistrement, l'événement n'est pas alloué (l'allocation est éliminée une fois la méthode compilée).
+ */
+public final class FlightEvents {
+
+    private FlightEvents() {
+    }
+
+    /**
+     * @return true si les événements peuvent être émis (Java 11+)
+     */
+    public static boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Une Failure a été créée
+     * @param exceptionType Classe de l'exception
+     * @param errorCode Code d'erreur, ou null si la Failure porte une exception
+     * @param callSite Nom du site d'appel (voir TryFactory.named), ou null
+     */
+    public static void failure(Class<?> exceptionType, String errorCode, String callSite) {
+        FailureEvent event = new FailureEvent();
+        if (!event.isEnabled()) return;
+        event.exceptionType = exceptionType;
+        event.errorCode = errorCode;
+        event.callSite = callSite;
+        event.commit();
+    }
+
+    /**
+     * Une mesure d'un timer Chrono a dépassé son seuil
+     * @param timer Nom du timer
+     * @param nanos Durée mesurée en nanosecondes
+     * @param thresholdNanos Seuil du timer en nanosecondes
+     */
+    public static void slowTimer(String timer, long nanos, long thresholdNanos) {
+        SlowTimerEvent event = new SlowTimerEvent();
+        if (!event.isEnabled()) return;
+        event.timer = timer;
+        event.elapsed = nanos;
+        event.threshold = thresholdNanos;
+        event.commit();
+    }
+
+    /**
+     * Un collector s'est terminé
+     * @param collector Nom du collector
+     * @param elementCount Nombre d'éléments traités avec succès
+     * @param shortCircuited true si une erreur a empêché l'évaluation d'au moins un élément (parcours interrompu,
+     *                       ou suppliers non appelés); false si tous les éléments ont été évalués, même en cas d'erreur
+     */
+    public static void collectorRun(String collector, long elementCount, boolean shortCircuited) {
+        CollectorRunEvent event = new CollectorRunEvent();
+        if (!event.isEnabled()) return;
+        event.collector = collector;
+        event.elementCount = elementCount;
+        event.shortCircuited = shortCircuited;
+        event.commit();
+    }
+
+    @Name("com.java.common.functional.Failure")
+    @Label("Try Failure")
+    @Description("A Failure has been created")
+    @Category("Functional")
+    @StackTrace(false)
+    static final class FailureEvent extends Event {
+
+        @Label("Exception Type")
+        Class<?> exceptionType;
+
+        @Label("Error Code")
+        String errorCode;
+
+        @Label("Call Site")
+        String callSite;
+    }
+
+    @Name("com.java.common.functional.SlowTimer")
+    @Label("Slow Chrono Timer")
+    @Description("A Chrono timer measure exceeded the timer threshold")
+    @Category("Functional")
+    @StackTrace(false)
+    static final class SlowTimerEvent extends Event {
+
+        @Label("Timer")
+        String timer;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+        @Label("Threshold")
+        @Timespan(Timespan.NANOSECONDS)
+        long threshold;
+    }
+
+    @Name("com.java.common.functional.CollectorRun")
+    @Label("Try Collector Run")
+    @Description("A Try collector finished")
+    @Category("Functional")
+    @StackTrace(false)
+    static final class CollectorRunEvent extends Event {
+
+        @Label("Collector")
+        String collector;
+
+        @Label("Element Count")
+        long elementCount;
+
+        @Label("Short-Circuited")
+        @Description("Some elements were never evaluated because of a failure")
+        boolean shortCircuited;
+    }
+}
@@ -0,0 +1,31 @@
+package com.java.common.functional.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Création des executors utilisés par {@link TryRunner}.
+ * <br>
+ * Version Java 21 : chaque tache est executée sur un nouveau thread virtuel, le nombre maximum de threads est ignoré.
+ */
+final class TaskExecutors {
+
+    private TaskExecutors() {
+    }
+
+    /**
+     * @return true si les taches sont executées sur des threads virtuels
+     */
+    static boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * Créé un executor de taches
+     * @param maxThreads Ignoré, les threads virtuels ne sont pas mis en pool
+     * @return
+     */
+    static ExecutorService newTaskExecutor(int maxThreads) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("functional-runner-", 1).factory());
+    }
+}